@@ -0,0 +1,64 @@
+#!/bin/bash
+
+# Side-by-side benchmark of the Spring MVC and WebFlux ("reactive" profile) auth/profile APIs.
+# Starts the jar once per mode, ramps concurrent connections with `hey` and reports
+# throughput, p99 latency and resident memory per open connection.
+
+JAR=${JAR:-service-platform/target/service-platform-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8090}
+DURATION=${DURATION:-20s}
+CONNECTIONS=${CONNECTIONS:-"50 200 1000 2000"}
+
+if ! command -v hey >/dev/null 2>&1; then
+  echo "Error: hey is not installed (https://github.com/rakyll/hey)."
+  exit 1
+fi
+if [ ! -f "$JAR" ]; then
+  echo "Error: $JAR not found. Build it first with: cd service-platform && mvn -B package"
+  exit 1
+fi
+
+run_mode() {
+  local mode=$1
+  local profile=$2
+
+  echo ""
+  echo "=== $mode ==="
+  # The reactive profile has no rate or concurrency limiting, so turn both off for MVC too;
+  # otherwise the single-IP login flood measures 429/503 responses instead of the stack.
+  RATELIMIT_ENABLED=false CONCURRENCY_LIMIT_ENABLED=false \
+    SPRING_PROFILES_ACTIVE=$profile SERVER_PORT=$PORT java -jar "$JAR" >/tmp/bench-$mode.log 2>&1 &
+  local pid=$!
+
+  until curl -s -o /dev/null "http://localhost:$PORT/api/auth/logout" -X POST; do sleep 1; done
+  # Should say Netty for the reactive profile; Tomcat there means WebFlux runs on the servlet adapter
+  grep -o -m1 '[A-Za-z]* started on port' /tmp/bench-$mode.log
+
+  # Seed one account so login exercises BCrypt and the Mongo lookup
+  curl -s -o /dev/null -X POST "http://localhost:$PORT/api/auth/register" \
+    -H "Content-Type: application/json" \
+    -d '{"email":"bench@example.com","password":"bench-password","name":"Bench","role":"CUSTOMER"}'
+
+  local idle_rss=$(ps -o rss= -p $pid)
+  for c in $CONNECTIONS; do
+    hey -z "$DURATION" -c "$c" -m POST -T "application/json" \
+      -d '{"email":"bench@example.com","password":"bench-password"}' \
+      "http://localhost:$PORT/api/auth/login" > /tmp/bench-$mode-$c.txt &
+    local hey_pid=$!
+    sleep 10
+    local rss=$(ps -o rss= -p $pid)
+    wait $hey_pid
+    local rps=$(grep "Requests/sec" /tmp/bench-$mode-$c.txt | awk '{print $2}')
+    local p99=$(grep "99% in" /tmp/bench-$mode-$c.txt | awk '{print $3}')
+    # rps counts every response, so shed requests (reactive 503 when the BCrypt queue is full) show here
+    local non_2xx=$(grep -E '^\s*\[[0-9]+\]' /tmp/bench-$mode-$c.txt | grep -v '\[2[0-9][0-9]\]' \
+      | awk '{ n += $2 } END { print n + 0 }')
+    echo "connections=$c rps=$rps p99=${p99}s non_2xx=$non_2xx rss=${rss}KB kb_per_conn=$(( (rss - idle_rss) / c ))"
+  done
+
+  kill $pid
+  wait $pid 2>/dev/null
+}
+
+run_mode mvc default
+run_mode reactive reactive
@@ -0,0 +1,106 @@
+#!/bin/bash
+
+# Response size and allocation per request for the JSON endpoints, before and after the switch to
+# record DTOs written by ResponseWriterConverter. Build the baseline jar from the commit before
+# the change, e.g.:
+#   git worktree add /tmp/baseline <commit>~1 && (cd /tmp/baseline/service-platform && mvn -B package)
+# Allocation is read from the jvm.gc.memory.allocated meter, which only advances when a GC runs,
+# so a GC is forced (jcmd) right before each reading; otherwise the first GC after startup would
+# charge the whole startup to whichever endpoint happens to be measured.
+# Every request authenticates with HTTP Basic, i.e. one BCrypt check, whose allocation swings by
+# about 2 MB between runs depending on whether C2 scalar-replaces its temporary arrays. So each
+# endpoint is also reported net of REFERENCE, an authenticated request that does little else,
+# measured in the same JVM.
+
+BASELINE_JAR=${BASELINE_JAR:-/tmp/baseline/service-platform/target/service-platform-0.0.1-SNAPSHOT.jar}
+CURRENT_JAR=${CURRENT_JAR:-service-platform/target/service-platform-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8091}
+USERS=${USERS:-200}
+REQUESTS=${REQUESTS:-5000}
+WARMUP=${WARMUP:-1000}
+EMAIL=bench@example.com
+PASSWORD=bench-password
+# SecurityConfig declares a BCryptPasswordEncoder, so Boot reads spring.security.user.password as an
+# encoded hash, not as plain text. This is BCrypt("bench-password"); a cheaper cost would not
+# help, the encoder re-hashes it at cost 10 on the first login.
+PASSWORD_HASH='$2a$10$nGIAPNOGdRtFUoZdYixf1Obasws4Skd.5u3YfpE6e3LH542SAO6mO'
+REFERENCE=/actuator/metrics/jvm.gc.memory.allocated
+
+if ! command -v hey >/dev/null 2>&1; then
+  echo "Error: hey is not installed (https://github.com/rakyll/hey)."
+  exit 1
+fi
+for jar in "$BASELINE_JAR" "$CURRENT_JAR"; do
+  if [ ! -f "$jar" ]; then
+    echo "Error: $jar not found."
+    exit 1
+  fi
+done
+
+allocated() {
+  jcmd "$APP_PID" GC.run >/dev/null
+  curl -s -u "$EMAIL:$PASSWORD" "http://localhost:$PORT/actuator/metrics/jvm.gc.memory.allocated" \
+    | sed -E 's/.*"value":([0-9.E+-]+).*/\1/'
+}
+
+# Prints "<response bytes> <allocated bytes per request>"
+measure() {
+  local path=$1
+  local result=$(curl -s -u "$EMAIL:$PASSWORD" -o /dev/null -w '%{http_code} %{size_download}' "http://localhost:$PORT$path")
+  if [ "${result% *}" != "200" ]; then
+    echo "$path returned HTTP ${result% *}, see /tmp/bench-serialization-*.log" >&2
+    return 1
+  fi
+  # Unmeasured round first, so class loading and JIT compilation stay out of the numbers
+  hey -n "$WARMUP" -c 20 -a "$EMAIL:$PASSWORD" "http://localhost:$PORT$path" > /dev/null
+  local before=$(allocated)
+  hey -n "$REQUESTS" -c 20 -a "$EMAIL:$PASSWORD" "http://localhost:$PORT$path" > /dev/null
+  local after=$(allocated)
+  echo "${result#* } $(awk -v a="$after" -v b="$before" -v n="$REQUESTS" 'BEGIN { printf "%d", (a - b) / n }')"
+}
+
+report() {
+  local path=$1
+  local out
+  out=$(measure "$path") || return
+  local alloc=${out#* }
+  echo "$path bytes=${out% *} alloc_per_request=${alloc}B net_of_reference=$(( alloc - REFERENCE_ALLOC ))B"
+}
+
+run_jar() {
+  local name=$1
+  local jar=$2
+
+  echo ""
+  echo "=== $name ==="
+  # The Boot default user doubles as the registered account so /api/profile resolves it
+  RATELIMIT_ENABLED=false CONCURRENCY_LIMIT_ENABLED=false \
+    SPRING_SECURITY_USER_NAME=$EMAIL SPRING_SECURITY_USER_PASSWORD=$PASSWORD_HASH \
+    MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE=health,metrics \
+    SPRING_DATA_MONGODB_DATABASE=bench_serialization SERVER_PORT=$PORT \
+    java -jar "$jar" >/tmp/bench-serialization-$name.log 2>&1 &
+  APP_PID=$!
+
+  until curl -s -o /dev/null "http://localhost:$PORT/api/auth/logout" -X POST; do sleep 1; done
+
+  for i in $(seq 1 "$USERS"); do
+    local email=$EMAIL
+    [ "$i" -gt 1 ] && email="bench$i@example.com"
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/api/auth/register" \
+      -H "Content-Type: application/json" \
+      -d "{\"email\":\"$email\",\"password\":\"$PASSWORD\",\"name\":\"Bench $i\",\"role\":\"CUSTOMER\",\"country\":\"IN\"}"
+  done
+
+  local out
+  out=$(measure $REFERENCE) || out="0 0"
+  REFERENCE_ALLOC=${out#* }
+  echo "$REFERENCE (reference) alloc_per_request=${REFERENCE_ALLOC}B"
+  report /api/profile
+  report /api/admin/users
+
+  kill $APP_PID
+  wait $APP_PID 2>/dev/null
+}
+
+run_jar baseline "$BASELINE_JAR"
+run_jar current "$CURRENT_JAR"
@@ -42,6 +42,13 @@ else
     echo "❌ MongoDB: Not running"
 fi
 
+# Check index migration (one-shot, must have exited with 0 before the backend starts)
+if [ "$(docker inspect -f '{{.State.ExitCode}}' service_platform_migrate 2>/dev/null)" == "0" ]; then
+    echo "✅ Index migration: Done"
+else
+    echo "❌ Index migration: Not finished or failed (docker-compose logs migrate)"
+fi
+
 # Check Backend
 if docker-compose ps backend | grep -q "Up"; then
     echo "✅ Backend: Running"
@@ -38,7 +38,7 @@ const SocialSignupButtons = ({ onSuccess, onError }) => {
       }
       
     } catch (err) {
-      const errorMessage = err.response?.data || `${provider} authentication failed`;
+      const errorMessage = err.response?.data?.message || `${provider} authentication failed`;
       setError(errorMessage);
       if (onError) {
         onError(errorMessage);
@@ -78,7 +78,7 @@ export default function EmailVerificationPage() {
       }, 2000);
 
     } catch (err) {
-      setError(err.response?.data || 'Verification failed. Please try again.');
+      setError(err.response?.data?.message || 'Verification failed. Please try again.');
     } finally {
       setLoading(false);
     }
@@ -94,7 +94,7 @@ export default function EmailVerificationPage() {
       setMessage(response.data.message);
       setCountdown(60); // Start 60-second countdown
     } catch (err) {
-      setError(err.response?.data || 'Failed to resend verification code.');
+      setError(err.response?.data?.message || 'Failed to resend verification code.');
     } finally {
       setResendLoading(false);
     }
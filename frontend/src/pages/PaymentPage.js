@@ -21,7 +21,7 @@ export default function PaymentPage() {
       );
       setMsg("Payment Intent Created Successfully! Stripe Client Secret:\n" + res.data);
     } catch (e) {
-      setError(e.response?.data || "Payment Failed.");
+      setError(e.response?.data?.message || "Payment Failed.");
     }
   };
 
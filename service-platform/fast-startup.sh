@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# Builds the startup-optimized variants of service-platform and reports time-to-first-request
+# for each one:
+#   jar       - plain fat jar (baseline)
+#   aot       - Spring AOT processed, run from the exploded classpath
+#   aot+cds   - same, plus an AppCDS archive produced by a training run
+#   native    - GraalVM native image (only with --native and a GraalVM JDK)
+# Index creation is not part of startup any more; see IndexMigrationRunner.
+
+set -e
+
+PORT=${PORT:-8095}
+NAME=service-platform-0.0.1-SNAPSHOT
+EXPLODED=target/exploded
+MAIN=com.example.service.ServicePlatformApplication
+
+echo "Building AOT-processed jar..."
+mvn -B -q -Pfast-startup -DskipTests package
+
+# CDS can only archive classes loaded from plain jars on the classpath: not from nested jars,
+# and the dump is refused outright if the classpath has a non-empty directory on it. So the
+# application classes go into their own jar and the libraries are listed one by one (in a
+# fixed order, the runs must use exactly the classpath the archive was dumped with).
+rm -rf $EXPLODED && mkdir -p $EXPLODED
+(cd $EXPLODED && jar -xf ../$NAME.jar)
+jar cf target/app.jar -C $EXPLODED/BOOT-INF/classes .
+CP="target/app.jar:$(ls $EXPLODED/BOOT-INF/lib/*.jar | LC_ALL=C sort | paste -sd: -)"
+
+echo "AppCDS training run..."
+java -XX:ArchiveClassesAtExit=target/app.jsa -Dspring.aot.enabled=true \
+  -cp "$CP" $MAIN --startup.exit-on-ready=true --server.port=0 > target/cds-training.log 2>&1
+if [ ! -f target/app.jsa ]; then
+  echo "No CDS archive was written, see target/cds-training.log"
+  exit 1
+fi
+
+# Prints milliseconds from process start until the first request succeeds
+time_to_first_request() {
+  local start=$(date +%s%N)
+  "$@" --server.port=$PORT > target/startup.log 2>&1 &
+  local pid=$!
+  until curl -s -o /dev/null -X POST "http://localhost:$PORT/api/auth/logout"; do
+    if ! kill -0 $pid 2>/dev/null; then echo "failed (see target/startup.log)"; return; fi
+    sleep 0.05
+  done
+  echo "$(( ($(date +%s%N) - start) / 1000000 )) ms"
+  kill $pid
+  wait $pid 2>/dev/null || true
+}
+
+echo ""
+echo "Time to first request:"
+echo "  jar:     $(time_to_first_request java -jar target/$NAME.jar)"
+echo "  aot:     $(time_to_first_request java -Dspring.aot.enabled=true -cp "$CP" $MAIN)"
+echo "  aot+cds: $(time_to_first_request java -XX:SharedArchiveFile=target/app.jsa -Dspring.aot.enabled=true -cp "$CP" $MAIN)"
+
+if [ "$1" == "--native" ]; then
+  echo "Building native image..."
+  mvn -B -q -Pnative -DskipTests native:compile
+  echo "  native:  $(time_to_first_request target/service-platform)"
+fi
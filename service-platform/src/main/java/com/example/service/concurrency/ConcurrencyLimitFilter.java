@@ -0,0 +1,105 @@
+package com.example.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Load shedding in front of the controllers. Each endpoint group has its own adaptive limit, so
+// a slow group cannot eat the capacity of the others. On top of that, total in-flight work is
+// compared to the server capacity and groups are shed in priority order (admin first, then
+// auth/profile, bookings, payment last). Rejections are an immediate 503 instead of a slot in
+// Tomcat's unbounded queue.
+// Runs after RateLimitFilter so throttled requests never count as latency samples.
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<EndpointGroup, GradientLimiter> limiters = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+    private final int serverCapacity;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(MeterRegistry registry,
+                                  @Value("${concurrency.enabled:true}") boolean enabled,
+                                  @Value("${concurrency.server-capacity:${server.tomcat.threads.max:200}}") int serverCapacity,
+                                  @Value("${concurrency.initial-limit:20}") int initialLimit,
+                                  @Value("${concurrency.min-limit:4}") int minLimit,
+                                  @Value("${concurrency.max-limit:200}") int maxLimit) {
+        this.enabled = enabled;
+        this.serverCapacity = serverCapacity;
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            GradientLimiter limiter = new GradientLimiter(initialLimit, minLimit, maxLimit);
+            String tag = group.name().toLowerCase();
+            limiters.put(group, limiter);
+            rejections.put(group, Counter.builder("concurrency.rejected").tag("group", tag).register(registry));
+            Gauge.builder("concurrency.limit", limiter, GradientLimiter::getLimit).tag("group", tag).register(registry);
+            Gauge.builder("concurrency.inflight", limiter, GradientLimiter::getInFlight).tag("group", tag).register(registry);
+        }
+        Gauge.builder("concurrency.inflight.total", totalInFlight, AtomicInteger::get).register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || EndpointGroup.forPath(path(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.forPath(path(request));
+        GradientLimiter limiter = limiters.get(group);
+
+        if (totalInFlight.get() >= serverCapacity * group.getShedAbove() || !limiter.tryAcquire()) {
+            rejections.get(group).increment();
+            response.setHeader("Retry-After", "1");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setContentType("text/plain");
+            response.getWriter().write("Server busy, please retry");
+            return;
+        }
+
+        totalInFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean dropped = true;
+        boolean sample = false;
+        try {
+            chain.doFilter(request, response);
+            int status = response.getStatus();
+            dropped = status >= 500;
+            // Fast client errors (401, 404, validation) say nothing about capacity
+            sample = status < 400;
+        } finally {
+            totalInFlight.decrementAndGet();
+            if (dropped) {
+                limiter.releaseDropped();
+            } else {
+                limiter.release(sample ? System.nanoTime() - start : -1);
+            }
+        }
+    }
+
+    // Decoded, semicolon-free path, matching what Spring MVC routes on; the raw URI could be
+    // percent-encoded (/api/%61dmin) to slip past the group prefixes
+    static String path(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.service.concurrency;
+
+// Endpoint groups that get their own adaptive limit. shedAbove is the fraction of total
+// server capacity in use beyond which the group is rejected, so the lowest value is shed first.
+public enum EndpointGroup {
+    ADMIN("/api/admin", 0.6),
+    PROFILE("/api/profile", 0.8),
+    AUTH("/api/auth", 0.8),
+    BOOKING("/api/bookings", 0.9), // contended and revenue-bearing: kept longer than auth/profile
+    PAYMENT("/api/payment", 1.0);
+
+    private final String prefix;
+    private final double shedAbove;
+
+    EndpointGroup(String prefix, double shedAbove) {
+        this.prefix = prefix;
+        this.shedAbove = shedAbove;
+    }
+
+    public double getShedAbove() { return shedAbove; }
+
+    public static EndpointGroup forPath(String path) {
+        for (EndpointGroup group : values()) {
+            if (path.startsWith(group.prefix)
+                    && (path.length() == group.prefix.length() || path.charAt(group.prefix.length()) == '/')) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
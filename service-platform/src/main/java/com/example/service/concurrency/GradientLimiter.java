@@ -0,0 +1,91 @@
+package com.example.service.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Adaptive concurrency limit in the style of Netflix's Gradient2. A slow moving average of
+// latency stands in for the no-load RTT. When recent samples run slower than it, the limit
+// shrinks by that ratio. Otherwise it grows by roughly sqrt(limit) per sample, which is the
+// queue we are willing to tolerate.
+public class GradientLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final int LONG_WINDOW = 600;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Guarded by this; limit is volatile so tryAcquire can read it without locking
+    private volatile double limit;
+    private double longRtt;
+    private long samples;
+
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Releases a slot. rttNanos < 0 means the call should not be used as a latency sample.
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    // Releases a slot for a call that failed on the server side (5xx or an exception). Overload
+    // often shows up as errors and timeouts rather than slow successes, so back off multiplicatively.
+    public void releaseDropped() {
+        inFlight.decrementAndGet();
+        onDrop();
+    }
+
+    private synchronized void onDrop() {
+        limit = Math.max(minLimit, limit * BACKOFF);
+    }
+
+    private synchronized void onSample(long rtt, int inFlightAtCompletion) {
+        samples++;
+        if (samples == 1) {
+            longRtt = rtt;
+        } else {
+            double factor = 2.0 / (Math.min(samples, LONG_WINDOW) + 1);
+            longRtt = longRtt * (1 - factor) + rtt * factor;
+        }
+
+        // Once latency has recovered well below the long term average, let the average catch up
+        // quickly, otherwise the limit would stay pinned at the level reached under load
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Do not grow the limit while we are not even using half of it
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() { return (int) limit; }
+
+    public int getInFlight() { return inFlight.get(); }
+}
@@ -0,0 +1,66 @@
+package com.example.service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+// Creates the indexes declared on @Document entities (@Indexed, @CompoundIndex, ...).
+// Run it once per deploy, e.g. as a job before the rollout:
+//   java -jar app.jar --migration.indexes.run=true --migration.indexes.exit=true
+// createIndex is a no-op for an index that already exists, so re-running is safe.
+// The switches are read at runtime, which keeps this usable from an AOT-processed build.
+@Component
+public class IndexMigrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexMigrationRunner.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Value("${migration.indexes.run:false}")
+    private boolean run;
+
+    @Value("${migration.indexes.exit:false}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!run) {
+            return;
+        }
+
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+            resolver.resolveIndexFor(entity.getTypeInformation()).forEach(index -> {
+                indexOps.ensureIndex(index);
+                log.info("Ensured index {} on {}", index.getIndexKeys().toJson(), entity.getCollection());
+            });
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
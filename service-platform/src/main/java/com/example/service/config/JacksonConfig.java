@@ -0,0 +1,39 @@
+package com.example.service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Blackbird replaces reflective getter calls with generated lambdas. Applied to Spring Boot's
+    // ObjectMapper (MVC and WebFlux alike). The flag is read when the mapper is built rather than
+    // through @ConditionalOnProperty, which an AOT-processed build would fix at build time; turn
+    // it off for native images. Static so the ObjectMapper can be built without instantiating
+    // this class first.
+    @Bean
+    public static Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer(Environment environment) {
+        return builder -> {
+            if (environment.getProperty("jackson.blackbird.enabled", Boolean.class, false)) {
+                builder.postConfigurer(mapper -> mapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ResponseWriterConverter(objectMapper));
+    }
+}
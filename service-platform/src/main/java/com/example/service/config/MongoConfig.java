@@ -4,6 +4,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.Collection;
+import java.util.Collections;
+
 @Configuration
 @EnableMongoRepositories(basePackages = "com.example.service.repository")
 public class MongoConfig extends AbstractMongoClientConfiguration {
@@ -12,4 +15,16 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     protected String getDatabaseName() {
         return "service_platform";
     }
-} 
\ No newline at end of file
+
+    // Register the @Document entities up front so IndexMigrationRunner can see all of them
+    @Override
+    protected Collection<String> getMappingBasePackages() {
+        return Collections.singleton("com.example.service.model");
+    }
+
+    // Indexes are never created during boot; IndexMigrationRunner does it once per deploy
+    @Override
+    protected boolean autoIndexCreation() {
+        return false;
+    }
+}
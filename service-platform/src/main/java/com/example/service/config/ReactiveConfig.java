@@ -0,0 +1,76 @@
+package com.example.service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@EnableReactiveMongoRepositories(basePackages = "com.example.service.repository")
+public class ReactiveConfig {
+
+    // spring-boot-starter-web keeps Tomcat on the classpath, and Boot prefers it over Netty for
+    // reactive apps too; declaring the factory makes WebFlux run on Netty's event loop
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public BCryptPasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    // BCrypt is CPU bound and must never run on the Netty event loop. A bounded pool with a
+    // bounded queue means excess hashing work is rejected instead of piling up in memory.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler bcryptScheduler(@Value("${reactive.bcrypt.threads:4}") int threads,
+                                     @Value("${reactive.bcrypt.queue-size:256}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "bcrypt");
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        // Same rules as SecurityConfig, expressed for WebFlux
+        http
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .csrf(csrf -> csrf.disable())
+            .authorizeExchange(auth -> auth
+                .pathMatchers("/api/auth/**").permitAll()
+                .pathMatchers("/actuator/health").permitAll()
+                .anyExchange().authenticated()
+            )
+            .httpBasic(httpBasic -> {})
+            .formLogin(form -> form.disable());
+
+        return http.build();
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList("*"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return source;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.service.config;
+
+import com.example.service.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Writes ApiResponse DTOs, and lists of them, with one ObjectWriter per type, built on first use
+// and reused, so a response skips the per-call type resolution the generic Jackson converter does.
+// Write-only.
+public class ResponseWriterConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> listWriters = new ConcurrentHashMap<>();
+
+    public ResponseWriterConverter(ObjectMapper mapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    // A collection is taken when its declared element type is an ApiResponse, or when the element
+    // type is hidden (ResponseEntity<?>); writeInternal then goes by the elements themselves.
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (supports(clazz)) {
+            return true;
+        }
+        if (!Collection.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        Class<?> element = ResolvableType.forType(type != null ? type : clazz).asCollection().resolveGeneric(0);
+        return element == null || supports(element);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Response DTOs are write-only", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Response DTOs are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectWriter writer = body instanceof Collection<?> values
+                ? listWriters.computeIfAbsent(elementClass(values), element -> mapper.writerFor(
+                        mapper.getTypeFactory().constructCollectionType(Collection.class, element)))
+                : writers.computeIfAbsent(body.getClass(), mapper::writerFor);
+        writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), body);
+    }
+
+    // The one class all elements share, or Object for empty and mixed lists (written dynamically)
+    private static Class<?> elementClass(Collection<?> values) {
+        Class<?> common = null;
+        for (Object value : values) {
+            Class<?> type = value != null ? value.getClass() : null;
+            if (type == null || (common != null && common != type)) {
+                return Object.class;
+            }
+            common = type;
+        }
+        return common != null ? common : Object.class;
+    }
+}
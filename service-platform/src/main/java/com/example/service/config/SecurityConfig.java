@@ -2,6 +2,7 @@ package com.example.service.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -14,6 +15,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
 @Configuration
+@Profile("!reactive") // ReactiveConfig takes over under the reactive profile
 @EnableMethodSecurity // Enable method-level security annotations like @PreAuthorize
 public class SecurityConfig {
 
@@ -30,6 +32,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(new AntPathRequestMatcher("/api/auth/**")).permitAll()  // Allow unauthenticated access to auth endpoints
                 .requestMatchers(new AntPathRequestMatcher("/h2-console/**")).permitAll()  // Allow H2 console access
+                .requestMatchers(new AntPathRequestMatcher("/actuator/health")).permitAll()  // Container health checks
                 // Add more public endpoints here if necessary, e.g., swagger
                 .anyRequest().authenticated()  // All other requests require authentication
             )
@@ -0,0 +1,23 @@
+package com.example.service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+// Shuts the application down as soon as it is ready when startup.exit-on-ready=true.
+// fast-startup.sh uses this for the AppCDS training run: the JVM dumps the archive on exit.
+@Component
+public class StartupExitListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Value("${startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (exitOnReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+        }
+    }
+}
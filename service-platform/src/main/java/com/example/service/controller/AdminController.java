@@ -1,18 +1,105 @@
 package com.example.service.controller;
 
+import com.example.service.dto.AdminStats;
+import com.example.service.dto.AdminUserRow;
+import com.example.service.dto.ImportRowError;
+import com.example.service.dto.ImportSummary;
+import com.example.service.dto.LoginView;
+import com.example.service.model.LoginRecord;
 import com.example.service.repository.UserRepository;
+import com.example.service.service.ArchiveService;
+import com.example.service.service.StatsService;
+import com.example.service.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
+@Profile("!reactive") // streams through the servlet request/response; MVC only
 @RequestMapping("/api/admin")
 public class AdminController {
+    private static final String NDJSON = "application/x-ndjson";
+
     @Autowired private UserRepository userRepo;
+    @Autowired private UserImportService importService;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private StatsService statsService;
+    @Autowired private ArchiveService archiveService;
 
     @GetMapping("/users")
-    public List<?> getAllUsers() {
-        return userRepo.findAll();
+    public List<AdminUserRow> getAllUsers() {
+        return userRepo.findAllForAdminList().stream().map(AdminUserRow::from).toList();
+    }
+
+    // Dashboard counters by role, providerType, country and email verification; one document read
+    @GetMapping("/stats")
+    public AdminStats getStats() {
+        return AdminStats.from(statsService.getStats());
+    }
+
+    // Login history of one user in [from, to), including archived records when the range is old enough
+    @GetMapping("/users/{userId}/logins")
+    public ResponseEntity<?> getLoginHistory(@PathVariable String userId,
+                                             @RequestParam(required = false) Instant from,
+                                             @RequestParam(required = false) Instant to,
+                                             @RequestParam(defaultValue = "100") int limit) {
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().body("limit must be positive");
+        }
+        return ResponseEntity.ok(archiveService.find(ArchiveService.Source.LOGINS, userId, from, to,
+                        Math.min(limit, 1000), LoginRecord.class)
+                .stream().map(LoginView::from).toList());
+    }
+
+    // Bulk create users from an NDJSON or CSV (with header) upload.
+    // Responds with NDJSON: one ImportRowError per rejected row, then an ImportSummary.
+    @PostMapping(value = "/users/import", consumes = {NDJSON, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamResult(request, response, true);
+    }
+
+    // Bulk role/providerType changes; each row needs email plus role and/or providerType
+    @PostMapping(value = "/users/bulk-update", consumes = {NDJSON, "text/csv"})
+    public void bulkUpdateUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamResult(request, response, false);
+    }
+
+    private void streamResult(HttpServletRequest request, HttpServletResponse response, boolean create)
+            throws IOException {
+        UserImportService.Format format = UserImportService.Format.fromContentType(request.getContentType());
+        ObjectWriter errorWriter = objectMapper.writerFor(ImportRowError.class);
+
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        ImportSummary summary;
+        try {
+            summary = create
+                    ? importService.importUsers(request.getInputStream(), format, error -> writeLine(out, errorWriter, error))
+                    : importService.updateUsers(request.getInputStream(), format, error -> writeLine(out, errorWriter, error));
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // client went away while we were reporting
+        }
+        writeLine(out, objectMapper.writerFor(ImportSummary.class), summary);
+        out.flush();
+    }
+
+    private static void writeLine(OutputStream out, ObjectWriter writer, Object value) {
+        try {
+            out.write(writer.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-    // Add more endpoints for dashboard as needed
 }
@@ -1,22 +1,28 @@
 package com.example.service.controller;
 
+import com.example.service.dto.LoginResponse;
+import com.example.service.dto.MessageResponse;
+import com.example.service.dto.RegisterResponse;
+import com.example.service.dto.VerifyEmailResponse;
 import com.example.service.model.User;
 import com.example.service.repository.UserRepository;
 import com.example.service.service.EmailService;
+import com.example.service.service.StatsService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/auth")
 public class AuthController {
 
@@ -29,6 +35,9 @@ public class AuthController {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private StatsService statsService;
+
     @org.springframework.beans.factory.annotation.Value("${feature.email.verification.enabled:true}")
     private boolean emailVerificationEnabled;
 
@@ -61,22 +70,18 @@ public class AuthController {
         user.setPassword(encoder.encode(user.getPassword()));
 
         User savedUser = userRepo.save(user);
+        statsService.userCreated(savedUser);
 
         if (emailVerificationEnabled) {
             // Send verification email
             emailService.sendVerificationEmail(user.getEmail(), user.getVerificationCode());
         }
 
-        Map<String, Object> response = new HashMap<>();
-        if (emailVerificationEnabled) {
-            response.put("message", "Registration initiated! Please check your email for verification code.");
-            response.put("requiresVerification", true);
-        } else {
-            response.put("message", "Registration successful. Email verification is disabled.");
-            response.put("requiresVerification", false);
-        }
-        response.put("userId", savedUser.getId());
-        response.put("email", savedUser.getEmail());
+        RegisterResponse response = emailVerificationEnabled
+                ? new RegisterResponse("Registration initiated! Please check your email for verification code.",
+                        true, savedUser.getId(), savedUser.getEmail())
+                : new RegisterResponse("Registration successful. Email verification is disabled.",
+                        false, savedUser.getId(), savedUser.getEmail());
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -119,17 +124,17 @@ public class AuthController {
         }
 
         // Mark email as verified
+        boolean wasVerified = user.isEmailVerified();
         user.setEmailVerified(true);
         user.setVerificationCode(null);
         user.setVerificationCodeExpiry(null);
         userRepo.save(user);
+        if (!wasVerified) {
+            statsService.emailVerified();
+        }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Email verified successfully! You can now login.");
-        response.put("userId", user.getId());
-        response.put("email", user.getEmail());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new VerifyEmailResponse(
+                "Email verified successfully! You can now login.", user.getId(), user.getEmail()));
     }
 
     // Resend verification code endpoint
@@ -167,10 +172,7 @@ public class AuthController {
         // Send new verification email
         emailService.sendVerificationEmail(email, newVerificationCode);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "New verification code sent to your email");
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new MessageResponse("New verification code sent to your email"));
     }
 
     // Enhanced login endpoint - now checks for email verification
@@ -192,16 +194,7 @@ public class AuthController {
                 // Generate a simple token (in production, use JWT)
                 String token = UUID.randomUUID().toString();
                 
-                Map<String, Object> response = new HashMap<>();
-                response.put("message", "Login successful!");
-                response.put("token", token);
-                response.put("userId", user.getId());
-                response.put("email", user.getEmail());
-                response.put("name", user.getName());
-                response.put("role", user.getRole());
-                response.put("providerType", user.getProviderType());
-                
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(LoginResponse.of("Login successful!", token, user));
             }
         }
 
@@ -213,9 +206,7 @@ public class AuthController {
     // Logout endpoint
     @PostMapping("/logout")
     public ResponseEntity<?> logout() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Logout successful!");
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new MessageResponse("Logout successful!"));
     }
 
     // Social Authentication Endpoints
@@ -245,21 +236,13 @@ public class AuthController {
                 user.setPassword(encoder.encode(UUID.randomUUID().toString())); // Random password for OAuth users
                 user.setEmailVerified(true); // OAuth users are pre-verified
                 userRepo.save(user);
+                statsService.userCreated(user);
             }
             
             // Generate session token
             String token = UUID.randomUUID().toString();
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Google authentication successful!");
-            response.put("token", token);
-            response.put("userId", user.getId());
-            response.put("email", user.getEmail());
-            response.put("name", user.getName());
-            response.put("role", user.getRole());
-            response.put("providerType", user.getProviderType());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(LoginResponse.of("Google authentication successful!", token, user));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -287,20 +270,12 @@ public class AuthController {
                 user.setPassword(encoder.encode(UUID.randomUUID().toString()));
                 user.setEmailVerified(true); // OAuth users are pre-verified
                 userRepo.save(user);
+                statsService.userCreated(user);
             }
             
             String token = UUID.randomUUID().toString();
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Facebook authentication successful!");
-            response.put("token", token);
-            response.put("userId", user.getId());
-            response.put("email", user.getEmail());
-            response.put("name", user.getName());
-            response.put("role", user.getRole());
-            response.put("providerType", user.getProviderType());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(LoginResponse.of("Facebook authentication successful!", token, user));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -328,20 +303,12 @@ public class AuthController {
                 user.setPassword(encoder.encode(UUID.randomUUID().toString()));
                 user.setEmailVerified(true); // OAuth users are pre-verified
                 userRepo.save(user);
+                statsService.userCreated(user);
             }
             
             String token = UUID.randomUUID().toString();
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Instagram authentication successful!");
-            response.put("token", token);
-            response.put("userId", user.getId());
-            response.put("email", user.getEmail());
-            response.put("name", user.getName());
-            response.put("role", user.getRole());
-            response.put("providerType", user.getProviderType());
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(LoginResponse.of("Instagram authentication successful!", token, user));
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
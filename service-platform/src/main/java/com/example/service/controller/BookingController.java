@@ -0,0 +1,120 @@
+package com.example.service.controller;
+
+import com.example.service.dto.BookingRequest;
+import com.example.service.dto.BookingView;
+import com.example.service.model.Booking;
+import com.example.service.model.User;
+import com.example.service.repository.BookingRepository;
+import com.example.service.repository.UserRepository;
+import com.example.service.service.BookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@Profile("!reactive") // blocking MongoTemplate calls would stall the event loop
+@RequestMapping("/api/bookings")
+public class BookingController {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    // Reserve a provider's slot; 409 if it is already taken
+    @PostMapping
+    public ResponseEntity<?> createBooking(Authentication authentication, @RequestBody BookingRequest request) {
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        if (request.providerId() == null || request.serviceType() == null || request.serviceDate() == null) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("providerId, serviceType and serviceDate are required");
+        }
+        if (!BookingService.isValidSlot(request.slot())) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("slot must be a start time in HH:mm format");
+        }
+
+        Booking booking = bookingService.book(userOpt.get().getId(), request);
+        if (booking == null) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body("This slot is no longer available");
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(BookingView.from(booking));
+    }
+
+    // Current user's bookings, newest first, optionally filtered by status
+    @GetMapping
+    public ResponseEntity<?> getBookings(Authentication authentication, @RequestParam(required = false) String status) {
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        String customerId = userOpt.get().getId();
+        List<Booking> bookings = status == null
+                ? bookingRepo.findTop50ByCustomerIdOrderByCreatedAtDesc(customerId)
+                : bookingRepo.findTop50ByCustomerIdAndStatusOrderByCreatedAtDesc(customerId, status.toUpperCase());
+        return ResponseEntity.ok(bookings.stream().map(BookingView::from).toList());
+    }
+
+    // PENDING, CONFIRMED and IN_PROGRESS bookings
+    @GetMapping("/active")
+    public ResponseEntity<?> getActiveBookings(Authentication authentication) {
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        List<Booking> bookings = bookingRepo.findByCustomerIdAndStatusInOrderByCreatedAtDesc(
+                userOpt.get().getId(), BookingService.ACTIVE_STATUSES);
+        return ResponseEntity.ok(bookings.stream().map(BookingView::from).toList());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getBooking(Authentication authentication, @PathVariable String id) {
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        return bookingRepo.findByIdAndCustomerId(id, userOpt.get().getId())
+                .<ResponseEntity<?>>map(booking -> ResponseEntity.ok(BookingView.from(booking)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Booking not found"));
+    }
+
+    // Cancel an active booking and free its slot
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelBooking(Authentication authentication, @PathVariable String id) {
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        String customerId = userOpt.get().getId();
+        Booking cancelled = bookingService.cancel(customerId, id);
+        if (cancelled != null) {
+            return ResponseEntity.ok(BookingView.from(cancelled));
+        }
+        if (bookingRepo.findByIdAndCustomerId(id, customerId).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Booking not found");
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Cannot cancel this booking");
+    }
+}
@@ -1,17 +1,52 @@
 package com.example.service.controller;
 
+import com.example.service.dto.PaymentView;
+import com.example.service.model.Payment;
+import com.example.service.model.User;
+import com.example.service.repository.UserRepository;
+import com.example.service.service.ArchiveService;
 import com.example.service.service.PaymentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.Optional;
+
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/payment")
 public class PaymentController {
     @Autowired private PaymentService paymentService;
+    @Autowired private ArchiveService archiveService;
+    @Autowired private UserRepository userRepo;
 
     @PostMapping("/create-intent")
     public String createPaymentIntent(@RequestParam Long amount, @RequestParam String currency) throws Exception {
         // Amount should be in the smallest currency unit (e.g., cents)
         return paymentService.createPaymentIntent(amount, currency);
     }
+
+    // Current user's payments in [from, to), newest first. Ranges older than the archive cutoff
+    // are served from the archive partitions as well.
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(Authentication authentication,
+                                        @RequestParam(required = false) Instant from,
+                                        @RequestParam(required = false) Instant to,
+                                        @RequestParam(defaultValue = "100") int limit) {
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().body("limit must be positive");
+        }
+        Optional<User> userOpt = userRepo.findByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+
+        return ResponseEntity.ok(archiveService.find(ArchiveService.Source.PAYMENTS, userOpt.get().getId(),
+                        from, to, Math.min(limit, 1000), Payment.class)
+                .stream().map(PaymentView::from).toList());
+    }
 }
@@ -1,9 +1,12 @@
 package com.example.service.controller;
 
+import com.example.service.dto.ProfileView;
 import com.example.service.model.User;
 import com.example.service.repository.UserRepository;
+import com.example.service.service.StatsService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -12,12 +15,16 @@ import org.springframework.web.bind.annotation.*;
 import java.util.Optional;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/profile")
 public class ProfileController {
 
     @Autowired 
     private UserRepository userRepo;
 
+    @Autowired
+    private StatsService statsService;
+
     // Get currently logged-in user's profile
     @GetMapping
     public ResponseEntity<?> getProfile(Authentication authentication) {
@@ -28,8 +35,7 @@ public class ProfileController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
         }
 
-        // return user details (consider hiding password in DTO in production)
-        return ResponseEntity.ok(userOpt.get());
+        return ResponseEntity.ok(ProfileView.from(userOpt.get()));
     }
 
     // Update profile details for logged-in user
@@ -43,6 +49,8 @@ public class ProfileController {
         }
 
         User user = userOpt.get();
+        String oldProviderType = user.getProviderType();
+        String oldCountry = user.getCountry();
 
         // Update allowed fields only (ignore nulls for partial updates)
         if (updated.getName() != null) {
@@ -66,7 +74,8 @@ public class ProfileController {
 
         // Do NOT update password or email here for simplicity and security
         userRepo.save(user);
+        statsService.profileChanged(oldProviderType, user.getProviderType(), oldCountry, user.getCountry());
 
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok(ProfileView.from(user));
     }
 }
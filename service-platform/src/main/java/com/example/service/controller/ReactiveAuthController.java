@@ -0,0 +1,252 @@
+package com.example.service.controller;
+
+import com.example.service.dto.LoginResponse;
+import com.example.service.dto.MessageResponse;
+import com.example.service.dto.RegisterResponse;
+import com.example.service.dto.VerifyEmailResponse;
+import com.example.service.model.User;
+import com.example.service.repository.ReactiveUserRepository;
+import com.example.service.service.EmailService;
+import com.example.service.service.StatsService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+// WebFlux version of AuthController, active only under the "reactive" profile.
+// Responses mirror AuthController exactly so clients cannot tell the two apart.
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/auth")
+public class ReactiveAuthController {
+
+    @Autowired
+    private ReactiveUserRepository userRepo;
+
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @Autowired
+    @Qualifier("bcryptScheduler")
+    private Scheduler bcryptScheduler;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Value("${feature.email.verification.enabled:true}")
+    private boolean emailVerificationEnabled;
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<Object>> register(@Valid @RequestBody User user) {
+        return userRepo.findByEmail(user.getEmail())
+                .map(existing -> ResponseEntity
+                        .status(HttpStatus.CONFLICT)
+                        .body((Object) "Email already in use!"))
+                .switchIfEmpty(Mono.defer(() -> createUser(user)))
+                .onErrorResume(RejectedExecutionException.class, e -> Mono.just(busy()));
+    }
+
+    private Mono<ResponseEntity<Object>> createUser(User user) {
+        if (emailVerificationEnabled) {
+            user.setVerificationCode(emailService.generateVerificationCode());
+            user.setEmailVerified(false);
+            user.setVerificationCodeExpiry(Instant.now().plusSeconds(600)); // 10 minutes expiry
+        } else {
+            user.setEmailVerified(true);
+            user.setVerificationCode(null);
+            user.setVerificationCodeExpiry(null);
+        }
+
+        return encode(user.getPassword())
+                .flatMap(hash -> {
+                    user.setPassword(hash);
+                    return userRepo.save(user);
+                })
+                .flatMap(savedUser -> stats(() -> statsService.userCreated(savedUser)).thenReturn(savedUser))
+                .map(savedUser -> {
+                    if (emailVerificationEnabled) {
+                        emailService.sendVerificationEmail(savedUser.getEmail(), savedUser.getVerificationCode());
+                    }
+
+                    RegisterResponse response = emailVerificationEnabled
+                            ? new RegisterResponse("Registration initiated! Please check your email for verification code.",
+                                    true, savedUser.getId(), savedUser.getEmail())
+                            : new RegisterResponse("Registration successful. Email verification is disabled.",
+                                    false, savedUser.getId(), savedUser.getEmail());
+
+                    return ResponseEntity.status(HttpStatus.CREATED).body((Object) response);
+                });
+    }
+
+    @PostMapping("/verify-email")
+    public Mono<ResponseEntity<Object>> verifyEmail(@RequestBody Map<String, String> request) {
+        String email = request.get("email");
+        String verificationCode = request.get("verificationCode");
+
+        if (email == null || verificationCode == null) {
+            return Mono.just(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Email and verification code are required"));
+        }
+
+        return userRepo.findByEmail(email)
+                .flatMap(user -> {
+                    if (user.getVerificationCodeExpiry().isBefore(Instant.now())) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.BAD_REQUEST)
+                                .body((Object) "Verification code has expired. Please request a new one."));
+                    }
+                    if (!verificationCode.equals(user.getVerificationCode())) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.BAD_REQUEST)
+                                .body((Object) "Invalid verification code"));
+                    }
+
+                    boolean wasVerified = user.isEmailVerified();
+                    user.setEmailVerified(true);
+                    user.setVerificationCode(null);
+                    user.setVerificationCodeExpiry(null);
+
+                    return userRepo.save(user)
+                            .flatMap(saved -> wasVerified ? Mono.just(saved)
+                                    : stats(statsService::emailVerified).thenReturn(saved))
+                            .map(saved -> ResponseEntity.ok((Object) new VerifyEmailResponse(
+                                    "Email verified successfully! You can now login.", saved.getId(), saved.getEmail())));
+                })
+                .defaultIfEmpty(notFound());
+    }
+
+    @PostMapping("/resend-verification")
+    public Mono<ResponseEntity<Object>> resendVerification(@RequestBody Map<String, String> request) {
+        String email = request.get("email");
+
+        if (email == null) {
+            return Mono.just(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body("Email is required"));
+        }
+
+        return userRepo.findByEmail(email)
+                .flatMap(user -> {
+                    if (user.isEmailVerified()) {
+                        return Mono.just(ResponseEntity
+                                .status(HttpStatus.BAD_REQUEST)
+                                .body((Object) "Email is already verified"));
+                    }
+
+                    String newVerificationCode = emailService.generateVerificationCode();
+                    user.setVerificationCode(newVerificationCode);
+                    user.setVerificationCodeExpiry(Instant.now().plusSeconds(600)); // 10 minutes expiry
+
+                    return userRepo.save(user).map(saved -> {
+                        emailService.sendVerificationEmail(email, newVerificationCode);
+                        return ResponseEntity.ok((Object) new MessageResponse("New verification code sent to your email"));
+                    });
+                })
+                .defaultIfEmpty(notFound());
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<Object>> login(@RequestBody User attempt) {
+        return userRepo.findByEmail(attempt.getEmail())
+                .flatMap(user -> matches(attempt.getPassword(), user.getPassword())
+                        .filter(Boolean::booleanValue)
+                        .map(ok -> {
+                            if (emailVerificationEnabled && !user.isEmailVerified()) {
+                                return ResponseEntity
+                                        .status(HttpStatus.UNAUTHORIZED)
+                                        .body((Object) "Please verify your email before logging in");
+                            }
+                            return ResponseEntity.ok((Object) sessionResponse("Login successful!", user));
+                        }))
+                .defaultIfEmpty(ResponseEntity
+                        .status(HttpStatus.UNAUTHORIZED)
+                        .body("Invalid credentials"))
+                .onErrorResume(RejectedExecutionException.class, e -> Mono.just(busy()));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Object>> logout() {
+        return Mono.just(ResponseEntity.ok(new MessageResponse("Logout successful!")));
+    }
+
+    // Social Authentication Endpoints
+    @PostMapping("/google")
+    public Mono<ResponseEntity<Object>> googleAuth(@RequestBody Map<String, String> request) {
+        return socialAuth(request, "Google");
+    }
+
+    @PostMapping("/facebook")
+    public Mono<ResponseEntity<Object>> facebookAuth(@RequestBody Map<String, String> request) {
+        return socialAuth(request, "Facebook");
+    }
+
+    @PostMapping("/instagram")
+    public Mono<ResponseEntity<Object>> instagramAuth(@RequestBody Map<String, String> request) {
+        return socialAuth(request, "Instagram");
+    }
+
+    private Mono<ResponseEntity<Object>> socialAuth(Map<String, String> request, String provider) {
+        String email = request.get("email");
+        String name = request.get("name");
+
+        return userRepo.findByEmail(email)
+                .switchIfEmpty(Mono.defer(() -> encode(UUID.randomUUID().toString())
+                        .flatMap(hash -> {
+                            User user = new User();
+                            user.setEmail(email);
+                            user.setName(name);
+                            user.setRole("CUSTOMER");
+                            user.setPassword(hash); // Random password for OAuth users
+                            user.setEmailVerified(true); // OAuth users are pre-verified
+                            return userRepo.save(user);
+                        })
+                        .flatMap(saved -> stats(() -> statsService.userCreated(saved)).thenReturn(saved))))
+                .map(user -> ResponseEntity.ok((Object) sessionResponse(provider + " authentication successful!", user)))
+                .onErrorResume(e -> Mono.just(ResponseEntity
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body("Authentication failed: " + e.getMessage())));
+    }
+
+    // StatsService uses the blocking driver, so keep it off the event loop
+    private static Mono<Void> stats(Runnable update) {
+        return Mono.fromRunnable(update).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> encoder.encode(rawPassword)).subscribeOn(bcryptScheduler);
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> encoder.matches(rawPassword, encodedPassword)).subscribeOn(bcryptScheduler);
+    }
+
+    private static LoginResponse sessionResponse(String message, User user) {
+        return LoginResponse.of(message, UUID.randomUUID().toString(), user); // in production, use JWT
+    }
+
+    private static ResponseEntity<Object> notFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+    }
+
+    // The BCrypt queue is full: shed the request instead of buffering it
+    private static ResponseEntity<Object> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Server busy, please retry");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.service.controller;
+
+import com.example.service.dto.ProfileView;
+import com.example.service.model.User;
+import com.example.service.repository.ReactiveUserRepository;
+import com.example.service.service.StatsService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// WebFlux version of ProfileController, active only under the "reactive" profile
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/profile")
+public class ReactiveProfileController {
+
+    @Autowired
+    private ReactiveUserRepository userRepo;
+
+    @Autowired
+    private StatsService statsService;
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getProfile(Authentication authentication) {
+        return userRepo.findByEmail(authentication.getName())
+                .map(user -> ResponseEntity.ok((Object) ProfileView.from(user)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found"));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<Object>> updateProfile(Authentication authentication, @Valid @RequestBody User updated) {
+        return userRepo.findByEmail(authentication.getName())
+                .flatMap(user -> {
+                    String oldProviderType = user.getProviderType();
+                    String oldCountry = user.getCountry();
+
+                    // Update allowed fields only (ignore nulls for partial updates)
+                    if (updated.getName() != null) {
+                        user.setName(updated.getName());
+                    }
+                    if (updated.getProviderType() != null) {
+                        user.setProviderType(updated.getProviderType());
+                    }
+                    if (updated.getPreferredLanguage() != null) {
+                        user.setPreferredLanguage(updated.getPreferredLanguage());
+                    }
+                    if (updated.getGender() != null) {
+                        user.setGender(updated.getGender());
+                    }
+                    if (updated.getCountry() != null) {
+                        user.setCountry(updated.getCountry());
+                    }
+                    if (updated.getPhoneNumber() != null) {
+                        user.setPhoneNumber(updated.getPhoneNumber());
+                    }
+                    return userRepo.save(user).flatMap(saved -> Mono
+                            .fromRunnable(() -> statsService.profileChanged(oldProviderType, saved.getProviderType(),
+                                    oldCountry, saved.getCountry()))
+                            .subscribeOn(Schedulers.boundedElastic()) // blocking driver
+                            .thenReturn(saved));
+                })
+                .map(user -> ResponseEntity.ok((Object) ProfileView.from(user)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.service.dto;
+
+import com.example.service.model.UserStats;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record AdminStats(long total, long emailVerified, Map<String, Long> byRole,
+                         Map<String, Long> byProviderType, Map<String, Long> byCountry,
+                         Instant reconciledAt) implements ApiResponse {
+
+    public static AdminStats from(UserStats stats) {
+        return new AdminStats(stats.getTotal(), stats.getEmailVerified(), orEmpty(stats.getByRole()),
+                orEmpty(stats.getByProviderType()), orEmpty(stats.getByCountry()), stats.getReconciledAt());
+    }
+
+    private static Map<String, Long> orEmpty(Map<String, Long> counts) {
+        return counts != null ? counts : Map.of();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.service.dto;
+
+import com.example.service.model.User;
+
+import java.time.Instant;
+
+// One row of the admin user list; UserRepository.findAllForAdminList fetches only these fields
+public record AdminUserRow(String id, String email, String name, String role, String providerType,
+                           String country, boolean emailVerified, Instant createdAt) implements ApiResponse {
+
+    public static AdminUserRow from(User user) {
+        return new AdminUserRow(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getProviderType(), user.getCountry(), user.isEmailVerified(), user.getCreatedAt());
+    }
+}
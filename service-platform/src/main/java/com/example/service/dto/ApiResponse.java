@@ -0,0 +1,5 @@
+package com.example.service.dto;
+
+// Marker for response DTOs. ResponseWriterConverter serializes these with a cached ObjectWriter.
+public interface ApiResponse {
+}
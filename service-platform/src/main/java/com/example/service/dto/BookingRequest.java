@@ -0,0 +1,9 @@
+package com.example.service.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Body of POST /api/bookings; slot is the start time as HH:mm
+public record BookingRequest(String providerId, String providerName, String serviceType, BigDecimal amount,
+                             String currency, LocalDate serviceDate, String slot) {
+}
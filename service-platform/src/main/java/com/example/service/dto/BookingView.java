@@ -0,0 +1,19 @@
+package com.example.service.dto;
+
+import com.example.service.model.Booking;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record BookingView(String id, String customerId, String providerId, String providerName, String serviceType,
+                          BigDecimal amount, String currency, String status, LocalDate serviceDate, String slot,
+                          Instant createdAt, Instant updatedAt) implements ApiResponse {
+
+    public static BookingView from(Booking booking) {
+        return new BookingView(booking.getId(), booking.getCustomerId(), booking.getProviderId(),
+                booking.getProviderName(), booking.getServiceType(), booking.getAmount(), booking.getCurrency(),
+                booking.getStatus(), booking.getServiceDate(), booking.getSlot(), booking.getCreatedAt(),
+                booking.getUpdatedAt());
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.service.dto;
+
+// Body of errors raised through GlobalExceptionHandler
+public record ErrorResponse(int status, String message) implements ApiResponse {
+}
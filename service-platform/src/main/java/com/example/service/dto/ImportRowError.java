@@ -0,0 +1,5 @@
+package com.example.service.dto;
+
+// A rejected upload line; row is 1-based and counts data lines only (not the CSV header)
+public record ImportRowError(long row, String email, String error) implements ApiResponse {
+}
@@ -0,0 +1,5 @@
+package com.example.service.dto;
+
+// Last line of a bulk import/update response stream
+public record ImportSummary(long rows, long succeeded, long failed) implements ApiResponse {
+}
@@ -0,0 +1,9 @@
+package com.example.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// One line of a bulk import or bulk update upload (NDJSON object or CSV row with a header)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportUserRecord(String email, String password, String name, String role, String providerType,
+                               String country, String phoneNumber, String gender, String preferredLanguage) {
+}
@@ -0,0 +1,13 @@
+package com.example.service.dto;
+
+import com.example.service.model.User;
+
+// Returned by login and the social sign-in endpoints
+public record LoginResponse(String message, String token, String userId, String email, String name,
+                            String role, String providerType) implements ApiResponse {
+
+    public static LoginResponse of(String message, String token, User user) {
+        return new LoginResponse(message, token, user.getId(), user.getEmail(), user.getName(),
+                user.getRole(), user.getProviderType());
+    }
+}
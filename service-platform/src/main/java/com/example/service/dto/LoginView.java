@@ -0,0 +1,14 @@
+package com.example.service.dto;
+
+import com.example.service.model.LoginRecord;
+
+import java.time.Instant;
+
+public record LoginView(String id, String userId, Instant loginAt, String ipAddress, String userAgent)
+        implements ApiResponse {
+
+    public static LoginView from(LoginRecord login) {
+        return new LoginView(login.getId(), login.getUserId(), login.getLoginAt(), login.getIpAddress(),
+                login.getUserAgent());
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.service.dto;
+
+public record MessageResponse(String message) implements ApiResponse {
+}
@@ -0,0 +1,16 @@
+package com.example.service.dto;
+
+import com.example.service.model.Payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record PaymentView(String id, String customerId, String providerId, BigDecimal amount, String currency,
+                          String status, String paymentIntentId, Instant createdAt) implements ApiResponse {
+
+    public static PaymentView from(Payment payment) {
+        return new PaymentView(payment.getId(), payment.getCustomerId(), payment.getProviderId(),
+                payment.getAmount(), payment.getCurrency(), payment.getStatus(), payment.getPaymentIntentId(),
+                payment.getCreatedAt());
+    }
+}
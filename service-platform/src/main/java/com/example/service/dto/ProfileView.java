@@ -0,0 +1,17 @@
+package com.example.service.dto;
+
+import com.example.service.model.User;
+
+import java.time.Instant;
+
+// What a user may see of their own account: no password hash or verification code
+public record ProfileView(String id, String email, String name, String role, String providerType,
+                          String preferredLanguage, String gender, String country, String phoneNumber,
+                          boolean emailVerified, Instant createdAt, Instant updatedAt) implements ApiResponse {
+
+    public static ProfileView from(User user) {
+        return new ProfileView(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getProviderType(), user.getPreferredLanguage(), user.getGender(), user.getCountry(),
+                user.getPhoneNumber(), user.isEmailVerified(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.service.dto;
+
+public record RegisterResponse(String message, boolean requiresVerification, String userId, String email)
+        implements ApiResponse {
+}
@@ -0,0 +1,4 @@
+package com.example.service.dto;
+
+public record VerifyEmailResponse(String message, String userId, String email) implements ApiResponse {
+}
@@ -1,8 +1,11 @@
 package com.example.service.exception;
 
+import com.example.service.dto.ErrorResponse;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
@@ -10,18 +13,33 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseBody
-    public ResponseEntity<?> handleValidation(MethodArgumentNotValidException ex) {
-        String errorMsg = ex.getBindingResult()
-                .getFieldErrors()
+    public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
+        return error(HttpStatus.BAD_REQUEST, fieldErrors(ex.getBindingResult()));
+    }
+
+    // WebFlux ("reactive" profile) raises this instead of MethodArgumentNotValidException
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleReactiveValidation(WebExchangeBindException ex) {
+        return error(HttpStatus.BAD_REQUEST, fieldErrors(ex.getBindingResult()));
+    }
+
+    @ExceptionHandler(Exception.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> genericError(Exception ex) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+    }
+
+    private static String fieldErrors(BindingResult result) {
+        return result.getFieldErrors()
                 .stream()
                 .map(err -> err.getField() + ": " + err.getDefaultMessage())
                 .collect(Collectors.joining(", "));
-        return new ResponseEntity<>(errorMsg, HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(Exception.class)
-    @ResponseBody
-    public ResponseEntity<?> genericError(Exception ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse(status.value(), message));
     }
 }
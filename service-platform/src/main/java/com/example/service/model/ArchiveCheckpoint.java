@@ -0,0 +1,54 @@
+package com.example.service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+// Progress of the archival job for one source collection. pendingIds is the batch that was being
+// moved when the checkpoint was written; if it is non-empty on startup, the previous run died
+// mid-batch and that batch is finished first. The lease keeps two instances off the same source.
+// lastArchivedAt and partitions tell readers whether and where to look past the hot collection.
+@Document(collection = "archive_checkpoints")
+public class ArchiveCheckpoint {
+
+    @Id
+    private String id;             // source collection name, e.g. "payments"
+
+    private List<Object> pendingIds;
+    private long archivedCount;
+    private Instant lastArchivedAt; // timestamp of the newest record archived so far
+    private List<String> partitions; // archive collections holding data, e.g. "payments_archive_2024_03"
+
+    private String leaseOwner;
+    private Instant leaseUntil;
+    private Instant updatedAt;
+
+    public ArchiveCheckpoint() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public List<Object> getPendingIds() { return pendingIds; }
+    public void setPendingIds(List<Object> pendingIds) { this.pendingIds = pendingIds; }
+
+    public long getArchivedCount() { return archivedCount; }
+    public void setArchivedCount(long archivedCount) { this.archivedCount = archivedCount; }
+
+    public Instant getLastArchivedAt() { return lastArchivedAt; }
+    public void setLastArchivedAt(Instant lastArchivedAt) { this.lastArchivedAt = lastArchivedAt; }
+
+    public List<String> getPartitions() { return partitions; }
+    public void setPartitions(List<String> partitions) { this.partitions = partitions; }
+
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+
+    public Instant getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(Instant leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
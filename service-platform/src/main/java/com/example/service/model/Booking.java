@@ -0,0 +1,94 @@
+package com.example.service.model;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Document(collection = "bookings")
+@CompoundIndexes({
+    @CompoundIndex(name = "customer_status", def = "{'customerId': 1, 'status': 1}"),
+    @CompoundIndex(name = "provider_status", def = "{'providerId': 1, 'status': 1}")
+})
+public class Booking {
+
+    @Id
+    private String id;
+
+    private String customerId;     // reference to User._id
+    private String providerId;     // reference to User._id
+    private String providerName;
+    private String serviceType;    // CHEF, BARTENDER, MAID, WAITER, DRIVER
+    private BigDecimal amount;
+    private String currency;       // e.g., "INR"
+    private String status;         // PENDING, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED
+
+    private LocalDate serviceDate; // day of the reserved slot
+    private String slot;           // start time of the reserved slot, HH:mm
+
+    @CreatedDate
+    private Instant createdAt;
+
+    @LastModifiedDate
+    private Instant updatedAt;
+
+    public Booking() {}
+
+    public Booking(String customerId, String providerId, String providerName, String serviceType,
+                   BigDecimal amount, String currency, LocalDate serviceDate, String slot) {
+        this.customerId = customerId;
+        this.providerId = providerId;
+        this.providerName = providerName;
+        this.serviceType = serviceType;
+        this.amount = amount;
+        this.currency = currency;
+        this.serviceDate = serviceDate;
+        this.slot = slot;
+        this.status = "PENDING";
+        this.createdAt = Instant.now();
+        this.updatedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getProviderId() { return providerId; }
+    public void setProviderId(String providerId) { this.providerId = providerId; }
+
+    public String getProviderName() { return providerName; }
+    public void setProviderName(String providerName) { this.providerName = providerName; }
+
+    public String getServiceType() { return serviceType; }
+    public void setServiceType(String serviceType) { this.serviceType = serviceType; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDate getServiceDate() { return serviceDate; }
+    public void setServiceDate(LocalDate serviceDate) { this.serviceDate = serviceDate; }
+
+    public String getSlot() { return slot; }
+    public void setSlot(String slot) { this.slot = slot; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
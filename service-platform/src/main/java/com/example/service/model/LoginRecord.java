@@ -2,11 +2,14 @@ package com.example.service.model;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
 @Document(collection = "logins")
+@CompoundIndex(name = "user_login", def = "{'userId': 1, 'loginAt': -1}")
 public class LoginRecord {
 
     @Id
@@ -14,6 +17,7 @@ public class LoginRecord {
 
     private String userId;     // reference to User._id
     @CreatedDate
+    @Indexed // drives the archival job's age scan
     private Instant loginAt;
 
     private String ipAddress;
@@ -2,12 +2,15 @@ package com.example.service.model;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
 @Document(collection = "payments")
+@CompoundIndex(name = "customer_created", def = "{'customerId': 1, 'createdAt': -1}")
 public class Payment {
 
     @Id
@@ -21,6 +24,7 @@ public class Payment {
     private String paymentIntentId; // Stripe intent id or other identifier
 
     @CreatedDate
+    @Indexed // drives the archival job's age scan
     private Instant createdAt;
 
     public Payment() {}
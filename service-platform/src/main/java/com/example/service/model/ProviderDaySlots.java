@@ -0,0 +1,39 @@
+package com.example.service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+
+// One document per provider per day holding a booked-count per slot. The _id is derived from
+// provider and day, so the primary key itself guarantees there is only ever one such document,
+// and every reservation is a single conditional $inc on it (see BookingService).
+@Document(collection = "provider_slots")
+public class ProviderDaySlots {
+
+    @Id
+    private String id;             // providerId + ":" + yyyy-MM-dd
+
+    private String providerId;
+    private String date;           // yyyy-MM-dd
+    private Map<String, Integer> booked; // slot (HH:mm) -> confirmed reservations
+
+    public ProviderDaySlots() {}
+
+    public static String idFor(String providerId, String date) {
+        return providerId + ":" + date;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProviderId() { return providerId; }
+    public void setProviderId(String providerId) { this.providerId = providerId; }
+
+    public String getDate() { return date; }
+    public void setDate(String date) { this.date = date; }
+
+    public Map<String, Integer> getBooked() { return booked; }
+    public void setBooked(Map<String, Integer> booked) { this.booked = booked; }
+}
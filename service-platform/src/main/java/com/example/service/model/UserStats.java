@@ -0,0 +1,50 @@
+package com.example.service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Single counters document for the admin dashboard. Kept current with $inc by StatsService and
+// periodically overwritten from a full aggregation to correct any drift.
+@Document(collection = "user_stats")
+public class UserStats {
+
+    public static final String GLOBAL_ID = "global";
+
+    @Id
+    private String id;
+
+    private long total;
+    private long emailVerified;
+    private Map<String, Long> byRole;          // role -> users
+    private Map<String, Long> byProviderType;  // providerType -> users
+    private Map<String, Long> byCountry;       // country code -> users
+
+    private Instant reconciledAt;
+
+    public UserStats() {}
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public long getEmailVerified() { return emailVerified; }
+    public void setEmailVerified(long emailVerified) { this.emailVerified = emailVerified; }
+
+    public Map<String, Long> getByRole() { return byRole; }
+    public void setByRole(Map<String, Long> byRole) { this.byRole = byRole; }
+
+    public Map<String, Long> getByProviderType() { return byProviderType; }
+    public void setByProviderType(Map<String, Long> byProviderType) { this.byProviderType = byProviderType; }
+
+    public Map<String, Long> getByCountry() { return byCountry; }
+    public void setByCountry(Map<String, Long> byCountry) { this.byCountry = byCountry; }
+
+    public Instant getReconciledAt() { return reconciledAt; }
+    public void setReconciledAt(Instant reconciledAt) { this.reconciledAt = reconciledAt; }
+}
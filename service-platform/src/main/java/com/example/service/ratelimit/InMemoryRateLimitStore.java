@@ -0,0 +1,63 @@
+package com.example.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Per-instance token buckets. Each bucket is updated with a CAS loop, so the allowed path takes
+// no locks. The map is bounded by Caffeine: past maxKeys it evicts on insert, preferring rarely
+// used keys, so a flood of one-off emails cannot push out the buckets of clients being limited.
+// Idle buckets expire on their own; cleanup is amortized and never scans the map on a request.
+@Component
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    // An idle bucket has refilled completely, so dropping it is indistinguishable from keeping it
+    // as long as the idle timeout is at least capacity / refill rate.
+    public InMemoryRateLimitStore(@Value("${ratelimit.max-keys:100000}") int maxKeys,
+                                  @Value("${ratelimit.idle-timeout-seconds:600}") long idleSeconds) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    @Override
+    public Result tryConsume(String key, long capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(key, k -> new Bucket(capacity, now));
+        return bucket.tryConsume(now, capacity, refillPerSecond / TimeUnit.SECONDS.toNanos(1), refillPerSecond);
+    }
+
+    private static final class Bucket {
+
+        private record State(double tokens, long timestamp) {}
+
+        private final AtomicReference<State> state;
+
+        Bucket(long capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        Result tryConsume(long now, long capacity, double refillPerNano, double refillPerSecond) {
+            while (true) {
+                State current = state.get();
+                double tokens = Math.min(capacity, current.tokens + Math.max(0, now - current.timestamp) * refillPerNano);
+                boolean allowed = tokens >= 1;
+                State next = new State(allowed ? tokens - 1 : tokens, Math.max(now, current.timestamp));
+                if (state.compareAndSet(current, next)) {
+                    return new Result(allowed, (long) next.tokens,
+                            Result.secondsUntilFull(next.tokens, capacity, refillPerSecond));
+                }
+            }
+        }
+    }
+}
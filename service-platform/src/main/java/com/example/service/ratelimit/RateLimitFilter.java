@@ -0,0 +1,194 @@
+package com.example.service.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+// Throttles the endpoints that cost BCrypt time or send email. Every request is charged against
+// a bucket for the client IP and, when the JSON body names one, a bucket for the target email,
+// so neither one client nor a botnet aimed at one account can run unbounded. Runs ahead of
+// Spring Security so rejected requests are cheap. Other paths pass straight through.
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of(
+            "/api/auth/register", "/api/auth/login", "/api/auth/resend-verification");
+
+    // Auth payloads are a few hundred bytes; anything far larger is not a real client
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final RateLimitStore store;
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ratelimit.ip.capacity:20}")
+    private long ipCapacity;
+
+    @Value("${ratelimit.ip.refill-per-minute:20}")
+    private double ipRefillPerMinute;
+
+    @Value("${ratelimit.email.capacity:5}")
+    private long emailCapacity;
+
+    @Value("${ratelimit.email.refill-per-minute:2}")
+    private double emailRefillPerMinute;
+
+    public RateLimitFilter(RateLimitStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !LIMITED_PATHS.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = path(request);
+        // getRemoteAddr() is the real client behind trusted proxies (server.forward-headers-strategy)
+        RateLimitStore.Result result = store.tryConsume(
+                "ip:" + path + ":" + request.getRemoteAddr(), ipCapacity, ipRefillPerMinute / 60.0);
+        long limit = ipCapacity;
+
+        HttpServletRequest forwarded = request;
+        if (result.allowed()) {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                return;
+            }
+            forwarded = new CachedBodyRequest(request, body);
+
+            String email = extractEmail(body);
+            if (email != null) {
+                RateLimitStore.Result emailResult = store.tryConsume(
+                        "email:" + path + ":" + email, emailCapacity, emailRefillPerMinute / 60.0);
+                if (!emailResult.allowed() || emailResult.remaining() < result.remaining()) {
+                    result = emailResult;
+                    limit = emailCapacity;
+                }
+            }
+        }
+
+        response.setHeader("RateLimit-Limit", String.valueOf(limit));
+        response.setHeader("RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(result.resetSeconds()));
+
+        if (!result.allowed()) {
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, result.resetSeconds())));
+            response.setStatus(429);
+            response.setContentType("text/plain");
+            response.getWriter().write("Too many requests, please try again later");
+            return;
+        }
+
+        chain.doFilter(forwarded, response);
+    }
+
+    // Match on the decoded path Spring MVC routes on, not the raw URI: /api/auth/%6Cogin or a
+    // ;param suffix still reaches AuthController.login and must hit the same buckets
+    private static String path(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+
+    // Pulls the top-level "email" field with the streaming parser; no tree or POJO is built
+    private static String extractEmail(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText().trim().toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // Malformed body: the controller will reject it, the IP bucket already applied
+        }
+        return null;
+    }
+
+    // Buffers the (small) auth request body so it can be read here and again by the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The body is already in memory, so it is all available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.service.ratelimit;
+
+// Backing store for token buckets. Implementations must make tryConsume atomic per key.
+public interface RateLimitStore {
+
+    Result tryConsume(String key, long capacity, double refillPerSecond);
+
+    record Result(boolean allowed, long remaining, long resetSeconds) {
+
+        // Seconds until a bucket with the given tokens left is full again
+        static long secondsUntilFull(double tokens, long capacity, double refillPerSecond) {
+            return (long) Math.ceil(Math.max(0, capacity - tokens) / refillPerSecond);
+        }
+    }
+}
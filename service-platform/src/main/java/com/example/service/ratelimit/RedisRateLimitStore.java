@@ -0,0 +1,62 @@
+package com.example.service.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+// Token buckets shared by every instance, kept in Redis (or anything speaking the Redis
+// protocol, e.g. the redis service in docker-compose). The whole refill/consume step runs as
+// one Lua script using the server clock, so instances never race or disagree on time.
+@Component
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimitStore.class);
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1])\n" +
+            "local perMs = tonumber(ARGV[2])\n" +
+            "local t = redis.call('TIME')\n" +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)\n" +
+            "local data = redis.call('HMGET', KEYS[1], 'tokens', 'ts')\n" +
+            "local tokens = tonumber(data[1]) or capacity\n" +
+            "local ts = tonumber(data[2]) or now\n" +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * perMs)\n" +
+            "local allowed = 0\n" +
+            "if tokens >= 1 then tokens = tokens - 1; allowed = 1 end\n" +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)\n" +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMs))\n" +
+            "return {allowed, math.floor(tokens)}",
+            List.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisRateLimitStore(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public Result tryConsume(String key, long capacity, double refillPerSecond) {
+        try {
+            List<?> result = redis.execute(TOKEN_BUCKET, Collections.singletonList(KEY_PREFIX + key),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond / 1000.0));
+            long remaining = ((Number) result.get(1)).longValue();
+            return new Result(((Number) result.get(0)).longValue() == 1, remaining,
+                    Result.secondsUntilFull(remaining, capacity, refillPerSecond));
+        } catch (RuntimeException e) {
+            // Fail open: a Redis outage must not lock every user out of login
+            log.warn("Rate limit store unavailable, allowing request: {}", e.getMessage());
+            return new Result(true, capacity, 0);
+        }
+    }
+}
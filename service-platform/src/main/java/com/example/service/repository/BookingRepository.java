@@ -0,0 +1,18 @@
+package com.example.service.repository;
+
+import com.example.service.model.Booking;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingRepository extends MongoRepository<Booking, String> {
+    List<Booking> findTop50ByCustomerIdOrderByCreatedAtDesc(String customerId);
+
+    List<Booking> findTop50ByCustomerIdAndStatusOrderByCreatedAtDesc(String customerId, String status);
+
+    List<Booking> findByCustomerIdAndStatusInOrderByCreatedAtDesc(String customerId, Collection<String> statuses);
+
+    Optional<Booking> findByIdAndCustomerId(String id, String customerId);
+}
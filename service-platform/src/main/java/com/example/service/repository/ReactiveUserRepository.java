@@ -0,0 +1,10 @@
+package com.example.service.repository;
+
+import com.example.service.model.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of UserRepository, used by the "reactive" profile controllers
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+    Mono<User> findByEmail(String email);
+}
@@ -0,0 +1,355 @@
+package com.example.service.service;
+
+import com.example.service.model.ArchiveCheckpoint;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Hot/cold tiering for the append-only collections. A nightly job moves records older than the
+// configured age into monthly archive collections (e.g. payments_archive_2024_03) created with
+// zstd block compression, so the hot collection and its indexes only hold recent data.
+//
+// Each batch is copied with idempotent upserts, then deleted from the hot collection. The batch
+// ids are checkpointed first, so a crash between the two steps is finished on the next run.
+// Batches are throttled to a duty cycle, leaving the database mostly to foreground traffic.
+//
+// find() is the read path: it queries the hot collection and, only when that page may be missing
+// older records, the monthly partitions the checkpoint lists for the range.
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    private static final DateTimeFormatter PARTITION = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final int NAMESPACE_EXISTS = 48;
+
+    public enum Source {
+        PAYMENTS("payments", "createdAt", "customerId"),
+        LOGINS("logins", "loginAt", "userId");
+
+        private final String collection;
+        private final String timeField;
+        private final String ownerField;
+
+        Source(String collection, String timeField, String ownerField) {
+            this.collection = collection;
+            this.timeField = timeField;
+            this.ownerField = ownerField;
+        }
+
+        String archivePrefix() {
+            return collection + "_archive_";
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.payments.max-age-days:365}")
+    private int paymentsMaxAgeDays;
+
+    @Value("${archive.logins.max-age-days:90}")
+    private int loginsMaxAgeDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    // Fraction of wall time spent working; 0.2 means each batch is followed by 4x its duration of sleep
+    @Value("${archive.duty-cycle:0.2}")
+    private double dutyCycle;
+
+    @Value("${archive.compressor:zstd}")
+    private String compressor;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<String> readyPartitions = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void validate() {
+        if (!(dutyCycle > 0 && dutyCycle <= 1)) {
+            throw new IllegalStateException("archive.duty-cycle must be in (0, 1], was " + dutyCycle);
+        }
+    }
+
+    // A first run over a large backlog can take hours; spring.task.scheduling.pool.size keeps it
+    // from holding the only scheduler thread (StatsService reconciles on the same scheduler)
+    @Scheduled(cron = "${archive.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        for (Source source : Source.values()) {
+            try {
+                long moved = archive(source);
+                if (moved > 0) {
+                    log.info("Archived {} records from {}", moved, source.collection);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Archival of {} stopped, will resume from checkpoint: {}", source.collection, e.getMessage());
+            }
+        }
+    }
+
+    public Instant cutoff(Source source) {
+        int days = source == Source.PAYMENTS ? paymentsMaxAgeDays : loginsMaxAgeDays;
+        return Instant.now().minus(Duration.ofDays(days));
+    }
+
+    // Moves everything older than the cutoff; returns the number of records moved
+    public long archive(Source source) {
+        if (!claimLease(source)) {
+            return 0;
+        }
+        long moved = 0;
+        try {
+            ArchiveCheckpoint checkpoint = mongoTemplate.findById(source.collection, ArchiveCheckpoint.class);
+            if (checkpoint != null && checkpoint.getPendingIds() != null && !checkpoint.getPendingIds().isEmpty()) {
+                moved += moveBatch(source, checkpoint.getPendingIds());
+            }
+
+            Instant cutoff = cutoff(source);
+            while (!Thread.currentThread().isInterrupted()) {
+                long start = System.nanoTime();
+
+                Query oldest = Query.query(Criteria.where(source.timeField).lt(cutoff))
+                        .with(Sort.by(source.timeField, "_id"))
+                        .limit(batchSize);
+                oldest.fields().include("_id");
+                List<Object> ids = mongoTemplate.find(oldest, Document.class, source.collection).stream()
+                        .map(doc -> doc.get("_id"))
+                        .toList();
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                updateCheckpoint(source, new Update().set("pendingIds", ids));
+                moved += moveBatch(source, ids);
+                renewLease(source);
+                throttle(System.nanoTime() - start);
+            }
+        } finally {
+            releaseLease(source);
+        }
+        return moved;
+    }
+
+    private int moveBatch(Source source, List<Object> ids) {
+        List<Document> docs = mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), Document.class,
+                source.collection);
+
+        Map<String, List<WriteModel<Document>>> byPartition = new HashMap<>();
+        Instant newest = null;
+        for (Document doc : docs) {
+            Instant time = time(source, doc);
+            newest = newest == null || time.isAfter(newest) ? time : newest;
+            byPartition.computeIfAbsent(partitionName(source, time), k -> new ArrayList<>())
+                    .add(new ReplaceOneModel<>(new Document("_id", doc.get("_id")), doc,
+                            new ReplaceOptions().upsert(true)));
+        }
+        if (newest != null) {
+            // Published before the copy, so find() never skips a partition that may hold a record
+            updateCheckpoint(source, new Update().max("lastArchivedAt", newest)
+                    .addToSet("partitions").each(byPartition.keySet().toArray()));
+        }
+        byPartition.forEach((partition, writes) -> {
+            ensurePartition(source, partition);
+            mongoTemplate.getCollection(partition).bulkWrite(writes);
+        });
+
+        // Only delete once every copy has been written to the archive
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), source.collection);
+
+        updateCheckpoint(source, new Update().unset("pendingIds").inc("archivedCount", docs.size()));
+        return docs.size();
+    }
+
+    // Records of one owner in [from, to), newest first. Either bound may be null for an open
+    // range. The hot collection is queried first; archive partitions only when that page may be
+    // missing older records (see findArchived).
+    public <T> List<T> find(Source source, String ownerId, Instant from, Instant to, int limit, Class<T> type) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Criteria criteria = Criteria.where(source.ownerField).is(ownerId);
+        if (from != null || to != null) {
+            Criteria range = criteria.and(source.timeField);
+            if (from != null) {
+                range.gte(from);
+            }
+            if (to != null) {
+                range.lt(to);
+            }
+        }
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, source.timeField)).limit(limit);
+
+        List<Document> hot = mongoTemplate.find(query, Document.class, source.collection);
+        List<Document> archived = findArchived(source, query, from, to, hot, limit);
+        if (archived.isEmpty()) {
+            return hot.stream().map(doc -> mongoTemplate.getConverter().read(type, doc)).toList();
+        }
+
+        // A record caught between copy and delete can briefly be in both tiers; keep one
+        Map<Object, Document> merged = new LinkedHashMap<>();
+        for (Document doc : hot) {
+            merged.putIfAbsent(doc.get("_id"), doc);
+        }
+        for (Document doc : archived) {
+            merged.putIfAbsent(doc.get("_id"), doc);
+        }
+        return merged.values().stream()
+                .sorted(Comparator.comparing((Document doc) -> time(source, doc)).reversed())
+                .limit(limit)
+                .map(doc -> mongoTemplate.getConverter().read(type, doc))
+                .toList();
+    }
+
+    // Nothing archived is newer than the checkpoint's lastArchivedAt, so a full hot page ending
+    // after it is already the answer. Otherwise the partitions listed in the checkpoint are read
+    // newest month first, stopping once a full page is newer than the next month.
+    private List<Document> findArchived(Source source, Query query, Instant from, Instant to,
+                                        List<Document> hot, int limit) {
+        ArchiveCheckpoint checkpoint = mongoTemplate.findById(source.collection, ArchiveCheckpoint.class);
+        if (checkpoint == null || checkpoint.getLastArchivedAt() == null || checkpoint.getPartitions() == null) {
+            return List.of();
+        }
+        Instant newestArchived = checkpoint.getLastArchivedAt();
+        if ((from != null && from.isAfter(newestArchived))
+                || (hot.size() == limit && time(source, hot.get(limit - 1)).isAfter(newestArchived))) {
+            return List.of();
+        }
+
+        // yyyy_MM suffixes sort chronologically, so plain string comparison selects the months
+        String first = from == null ? null : partitionName(source, from);
+        String last = partitionName(source, to != null && to.isBefore(newestArchived) ? to : newestArchived);
+        List<String> partitions = checkpoint.getPartitions().stream()
+                .filter(name -> (first == null || name.compareTo(first) >= 0) && name.compareTo(last) <= 0)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        List<Document> archived = new ArrayList<>();
+        for (String partition : partitions) {
+            archived.addAll(mongoTemplate.find(query, Document.class, partition));
+            Instant monthStart = YearMonth.parse(partition.substring(source.archivePrefix().length()), PARTITION)
+                    .atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            long newer = Stream.concat(hot.stream(), archived.stream())
+                    .filter(doc -> !time(source, doc).isBefore(monthStart))
+                    .map(doc -> doc.get("_id"))
+                    .distinct()
+                    .count();
+            if (newer >= limit) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private static Instant time(Source source, Document doc) {
+        return doc.getDate(source.timeField).toInstant();
+    }
+
+    private static String partitionName(Source source, Instant time) {
+        return source.archivePrefix() + PARTITION.format(YearMonth.from(time.atZone(ZoneOffset.UTC)));
+    }
+
+    private void ensurePartition(Source source, String partition) {
+        if (readyPartitions.contains(partition)) {
+            return;
+        }
+        try {
+            mongoTemplate.getDb().createCollection(partition, new CreateCollectionOptions().storageEngineOptions(
+                    new Document("wiredTiger", new Document("configString", "block_compressor=" + compressor))));
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+        mongoTemplate.getCollection(partition).createIndex(
+                Indexes.compoundIndex(Indexes.ascending(source.ownerField), Indexes.descending(source.timeField)),
+                new IndexOptions().name("owner_time"));
+        readyPartitions.add(partition);
+    }
+
+    private void throttle(long batchNanos) {
+        if (dutyCycle >= 1) {
+            return;
+        }
+        long pauseNanos = (long) (batchNanos * (1 - dutyCycle) / dutyCycle);
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Only one instance archives a given source at a time. The lease expires on its own if the
+    // owner dies, and the checkpoint lets the next owner pick up where it stopped.
+    private boolean claimLease(Source source) {
+        Instant now = Instant.now();
+        Query claimable = Query.query(Criteria.where("_id").is(source.collection)
+                .orOperator(Criteria.where("leaseUntil").lt(now), Criteria.where("leaseOwner").is(instanceId)));
+        try {
+            mongoTemplate.upsert(claimable, new Update()
+                    .set("leaseOwner", instanceId)
+                    .set("leaseUntil", now.plus(LEASE)), ArchiveCheckpoint.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false; // held by another instance
+        }
+    }
+
+    private void renewLease(Source source) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(source.collection).and("leaseOwner").is(instanceId)),
+                new Update().set("leaseUntil", Instant.now().plus(LEASE)), ArchiveCheckpoint.class);
+    }
+
+    private void releaseLease(Source source) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(source.collection).and("leaseOwner").is(instanceId)),
+                new Update().set("leaseUntil", Instant.EPOCH), ArchiveCheckpoint.class);
+    }
+
+    private void updateCheckpoint(Source source, Update update) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(source.collection)),
+                update.set("updatedAt", Instant.now()), ArchiveCheckpoint.class);
+    }
+}
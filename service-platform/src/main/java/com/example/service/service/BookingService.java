@@ -0,0 +1,106 @@
+package com.example.service.service;
+
+import com.example.service.dto.BookingRequest;
+import com.example.service.model.Booking;
+import com.example.service.model.ProviderDaySlots;
+import com.example.service.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Slot reservation without application locks. Each provider/day has one ProviderDaySlots
+// document; reserving is a single conditional $inc that only matches while the slot is below
+// capacity, so MongoDB's per-document atomicity is the only synchronization. Requests for
+// different providers or days touch different documents and never contend.
+@Service
+public class BookingService {
+
+    public static final List<String> ACTIVE_STATUSES = List.of("PENDING", "CONFIRMED", "IN_PROGRESS");
+
+    private static final Pattern SLOT = Pattern.compile("([01]\\d|2[0-3]):[0-5]\\d");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepo;
+
+    @Value("${booking.slot-capacity:1}")
+    private int slotCapacity;
+
+    public static boolean isValidSlot(String slot) {
+        return slot != null && SLOT.matcher(slot).matches();
+    }
+
+    // Returns null when the slot is already fully booked
+    public Booking book(String customerId, BookingRequest request) {
+        if (!reserveSlot(request.providerId(), request.serviceDate(), request.slot())) {
+            return null;
+        }
+        try {
+            return bookingRepo.save(new Booking(customerId, request.providerId(), request.providerName(),
+                    request.serviceType(), request.amount(),
+                    request.currency() != null ? request.currency() : "INR",
+                    request.serviceDate(), request.slot()));
+        } catch (RuntimeException e) {
+            releaseSlot(request.providerId(), request.serviceDate(), request.slot());
+            throw e;
+        }
+    }
+
+    // Returns the cancelled booking, or null if it is not an active booking of this customer
+    public Booking cancel(String customerId, String bookingId) {
+        Query query = Query.query(Criteria.where("_id").is(bookingId)
+                .and("customerId").is(customerId)
+                .and("status").in(ACTIVE_STATUSES));
+        Update update = new Update().set("status", "CANCELLED").set("updatedAt", Instant.now());
+
+        // Conditional status flip: two concurrent cancels cannot both release the slot
+        Booking cancelled = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Booking.class);
+        if (cancelled != null) {
+            releaseSlot(cancelled.getProviderId(), cancelled.getServiceDate(), cancelled.getSlot());
+        }
+        return cancelled;
+    }
+
+    boolean reserveSlot(String providerId, LocalDate day, String slot) {
+        String date = day.toString();
+        String field = "booked." + slot;
+        Query belowCapacity = Query.query(Criteria.where("_id").is(ProviderDaySlots.idFor(providerId, date))
+                .and(field).not().gte(slotCapacity));
+        Update reserve = new Update().inc(field, 1)
+                .setOnInsert("providerId", providerId)
+                .setOnInsert("date", date);
+
+        try {
+            mongoTemplate.upsert(belowCapacity, reserve, ProviderDaySlots.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Either the slot is full (the filter missed an existing document, so the upsert
+            // tried to insert its _id again) or another request created the day document first.
+            // The document exists now, so a plain conditional update settles it.
+            return mongoTemplate.updateFirst(belowCapacity, reserve, ProviderDaySlots.class).getModifiedCount() == 1;
+        }
+    }
+
+    void releaseSlot(String providerId, LocalDate day, String slot) {
+        String field = "booked." + slot;
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(ProviderDaySlots.idFor(providerId, day.toString()))
+                        .and(field).gt(0)),
+                new Update().inc(field, -1),
+                ProviderDaySlots.class);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.service.service;
+
+import com.example.service.model.User;
+import com.example.service.model.UserStats;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Maintains the UserStats counters document. Writers record what changed in a Delta and apply
+// it as one $inc, so reading the dashboard is a single _id lookup rather than a scan. A
+// scheduled reconciliation recomputes everything from the users collection to fix drift
+// (failed increments, writes that raced the previous reconciliation, manual DB edits).
+@Service
+public class StatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public UserStats getStats() {
+        UserStats stats = mongoTemplate.findById(UserStats.GLOBAL_ID, UserStats.class);
+        return stats != null ? stats : reconcile();
+    }
+
+    public void userCreated(User user) {
+        apply(new Delta().created(user));
+    }
+
+    public void emailVerified() {
+        apply(new Delta().add("emailVerified", 1));
+    }
+
+    public void profileChanged(String oldProviderType, String newProviderType, String oldCountry, String newCountry) {
+        apply(new Delta().changed("byProviderType", oldProviderType, newProviderType)
+                .changed("byCountry", oldCountry, newCountry));
+    }
+
+    // Counters are best effort; a failed $inc must not fail the user's request. Reconciliation repairs it.
+    public void apply(Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        try {
+            Update update = new Update();
+            delta.counts.forEach(update::inc);
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(UserStats.GLOBAL_ID)), update, UserStats.class);
+        } catch (RuntimeException e) {
+            log.warn("Could not update user stats, will be fixed by reconciliation: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${stats.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${stats.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public UserStats reconcile() {
+        UserStats stats = new UserStats();
+        stats.setId(UserStats.GLOBAL_ID);
+        stats.setTotal(mongoTemplate.count(new Query(), User.class));
+        stats.setEmailVerified(mongoTemplate.count(Query.query(Criteria.where("emailVerified").is(true)), User.class));
+        stats.setByRole(countBy("role"));
+        stats.setByProviderType(countBy("providerType"));
+        stats.setByCountry(countBy("country"));
+        stats.setReconciledAt(Instant.now());
+
+        UserStats previous = mongoTemplate.findById(UserStats.GLOBAL_ID, UserStats.class);
+        if (previous != null && previous.getTotal() != stats.getTotal()) {
+            log.info("User stats drifted: total was {}, actual {}", previous.getTotal(), stats.getTotal());
+        }
+        mongoTemplate.save(stats);
+        return stats;
+    }
+
+    private Map<String, Long> countBy(String field) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(field).ne(null)),
+                Aggregation.group(field).count().as("count"));
+        Map<String, Long> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, User.class, Document.class)) {
+            String value = group.get("_id").toString();
+            if (!value.isBlank()) { // same rule as Delta.bucket
+                counts.merge(key(value), ((Number) group.get("count")).longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    // Values become field names inside the counters document, where '.' and '$' are not allowed
+    static String key(String value) {
+        return value.replace('.', '_').replace('$', '_');
+    }
+
+    // Accumulated counter changes, applied as one $inc
+    public static final class Delta {
+        private final Map<String, Long> counts = new HashMap<>();
+
+        public Delta add(String field, long amount) {
+            counts.merge(field, amount, Long::sum);
+            return this;
+        }
+
+        public Delta created(User user) {
+            add("total", 1);
+            if (user.isEmailVerified()) {
+                add("emailVerified", 1);
+            }
+            bucket("byRole", user.getRole(), 1);
+            bucket("byProviderType", user.getProviderType(), 1);
+            bucket("byCountry", user.getCountry(), 1);
+            return this;
+        }
+
+        public Delta changed(String map, String oldValue, String newValue) {
+            if (!Objects.equals(oldValue, newValue)) {
+                bucket(map, oldValue, -1);
+                bucket(map, newValue, 1);
+            }
+            return this;
+        }
+
+        // Blank values (the profile form sends country: '') count as unset; an empty key would
+        // also make MongoDB reject the whole $inc
+        private void bucket(String map, String value, long amount) {
+            if (value != null && !value.isBlank()) {
+                add(map + "." + key(value), amount);
+            }
+        }
+
+        boolean isEmpty() {
+            counts.values().removeIf(v -> v == 0);
+            return counts.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.example.service.service;
+
+import com.example.service.dto.ImportRowError;
+import com.example.service.dto.ImportSummary;
+import com.example.service.dto.ImportUserRecord;
+import com.example.service.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Bulk user creation and role/providerType updates for admins. Uploads are read one line at a
+// time (each capped at max-line-chars) and processed in fixed-size batches, so memory stays flat
+// whatever the upload size.
+// Each import batch has its passwords hashed in parallel on a bounded pool and is written with
+// one unordered bulkWrite. Rejected rows (validation, duplicate email) go to the error
+// callback as they happen.
+@Service
+public class UserImportService {
+
+    private static final Set<String> ROLES = Set.of("CUSTOMER", "SERVICE_PROVIDER", "ADMIN");
+    private static final int DUPLICATE_KEY = 11000;
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.startsWith("text/csv") ? CSV : NDJSON;
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Value("${admin.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${admin.import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${admin.import.max-line-chars:16384}")
+    private int maxLineChars;
+
+    private ExecutorService hashPool;
+
+    @PostConstruct
+    public void setup() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        hashPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "bulk-hash-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    public ImportSummary importUsers(InputStream in, Format format, Consumer<ImportRowError> errors) throws IOException {
+        RowReader reader = new RowReader(in, format);
+        List<Row> batch = new ArrayList<>(batchSize);
+        long rows = 0;
+        long inserted = 0;
+
+        Row row;
+        while ((row = reader.next()) != null) {
+            rows++;
+            String error = row.error != null ? row.error : validateImport(row.record);
+            if (error != null) {
+                errors.accept(new ImportRowError(row.number, row.email(), error));
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                inserted += insertBatch(batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += insertBatch(batch, errors);
+        }
+        return new ImportSummary(rows, inserted, rows - inserted);
+    }
+
+    public ImportSummary updateUsers(InputStream in, Format format, Consumer<ImportRowError> errors) throws IOException {
+        RowReader reader = new RowReader(in, format);
+        List<Row> batch = new ArrayList<>(batchSize);
+        long rows = 0;
+        long updated = 0;
+
+        Row row;
+        while ((row = reader.next()) != null) {
+            rows++;
+            String error = row.error != null ? row.error : validateUpdate(row.record);
+            if (error != null) {
+                errors.accept(new ImportRowError(row.number, row.email(), error));
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                updated += updateBatch(batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            updated += updateBatch(batch, errors);
+        }
+        return new ImportSummary(rows, updated, rows - updated);
+    }
+
+    private static String validateImport(ImportUserRecord record) {
+        if (record.email() == null || !record.email().contains("@")) {
+            return "A valid email is required";
+        }
+        if (record.password() == null || record.password().isBlank()) {
+            return "Password is required";
+        }
+        if (record.role() != null && !ROLES.contains(record.role())) {
+            return "Unknown role: " + record.role();
+        }
+        return null;
+    }
+
+    private static String validateUpdate(ImportUserRecord record) {
+        if (record.email() == null || record.email().isBlank()) {
+            return "Email is required";
+        }
+        if (record.role() == null && record.providerType() == null) {
+            return "Nothing to update: role or providerType is required";
+        }
+        if (record.role() != null && !ROLES.contains(record.role())) {
+            return "Unknown role: " + record.role();
+        }
+        return null;
+    }
+
+    private long insertBatch(List<Row> batch, Consumer<ImportRowError> errors) {
+        List<Future<User>> hashed = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            hashed.add(hashPool.submit(() -> toUser(row.record)));
+        }
+
+        // A row whose hash fails is reported like any other rejected row; the stream has already
+        // started, so failing the whole request here would leave the client a truncated body.
+        List<Row> rows = new ArrayList<>(batch.size());
+        List<User> users = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Row row = batch.get(i);
+            try {
+                users.add(hashed.get(i).get());
+                rows.add(row);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.accept(new ImportRowError(row.number, row.email(), "Import interrupted"));
+            } catch (ExecutionException e) {
+                errors.accept(new ImportRowError(row.number, row.email(), "Password hashing failed"));
+            }
+        }
+        if (users.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        ops.insert(users);
+        Set<Integer> failed = new HashSet<>();
+        long inserted;
+        try {
+            inserted = ops.execute().getInsertedCount();
+        } catch (BulkOperationException e) {
+            // Unordered: everything except these rows was written. Duplicates rely on the unique
+            // email index, so run the index migration before importing.
+            for (BulkWriteError error : e.getErrors()) {
+                Row row = rows.get(error.getIndex());
+                failed.add(error.getIndex());
+                errors.accept(new ImportRowError(row.number, row.email(),
+                        error.getCode() == DUPLICATE_KEY ? "Email already in use" : error.getMessage()));
+            }
+            inserted = e.getResult().getInsertedCount();
+        }
+
+        StatsService.Delta delta = new StatsService.Delta();
+        for (int i = 0; i < users.size(); i++) {
+            if (!failed.contains(i)) {
+                delta.created(users.get(i));
+            }
+        }
+        statsService.apply(delta);
+        return inserted;
+    }
+
+    private long updateBatch(List<Row> batch, Consumer<ImportRowError> errors) {
+        // One lookup per batch so rows for unknown users can be reported individually
+        Query lookup = Query.query(Criteria.where("email").in(batch.stream().map(Row::email).toList()));
+        lookup.fields().include("email").include("role").include("providerType");
+        Map<String, User> existing = mongoTemplate.find(lookup, User.class).stream()
+                .collect(Collectors.toMap(User::getEmail, user -> user, (a, b) -> a));
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        StatsService.Delta delta = new StatsService.Delta();
+        int queued = 0;
+        for (Row row : batch) {
+            User current = existing.get(row.email());
+            if (current == null) {
+                errors.accept(new ImportRowError(row.number, row.email(), "User not found"));
+                continue;
+            }
+            Update update = new Update().set("updatedAt", Instant.now());
+            if (row.record.role() != null) {
+                update.set("role", row.record.role());
+                delta.changed("byRole", current.getRole(), row.record.role());
+                current.setRole(row.record.role());
+            }
+            if (row.record.providerType() != null) {
+                update.set("providerType", row.record.providerType());
+                delta.changed("byProviderType", current.getProviderType(), row.record.providerType());
+                current.setProviderType(row.record.providerType());
+            }
+            ops.updateOne(Query.query(Criteria.where("email").is(row.email())), update);
+            queued++;
+        }
+        if (queued == 0) {
+            return 0;
+        }
+        long matched = ops.execute().getMatchedCount();
+        statsService.apply(delta);
+        return matched;
+    }
+
+    // Runs on the hash pool
+    private User toUser(ImportUserRecord record) {
+        User user = new User(record.email().trim(), encoder.encode(record.password()), record.name(),
+                record.role() != null ? record.role() : "CUSTOMER", record.providerType());
+        user.setCountry(record.country());
+        user.setPhoneNumber(record.phoneNumber());
+        user.setGender(record.gender());
+        user.setPreferredLanguage(record.preferredLanguage());
+        user.setEmailVerified(true); // accounts created by an admin are pre-verified, like OAuth users
+        return user;
+    }
+
+    private static final class Row {
+        final long number;
+        final ImportUserRecord record;
+        final String error;
+
+        Row(long number, ImportUserRecord record, String error) {
+            this.number = number;
+            this.record = record;
+            this.error = error;
+        }
+
+        String email() {
+            return record != null && record.email() != null ? record.email().trim() : null;
+        }
+    }
+
+    // Line-at-a-time reader: NDJSON objects, or CSV with a header row. A line that fails to parse
+    // or is longer than maxLineChars becomes an error row instead of aborting the upload. Quoted
+    // CSV fields may not span lines.
+    private final class RowReader {
+        private final LineReader lines;
+        private final ObjectReader reader;
+        private Row headerError;
+        private boolean done;
+        private long number;
+
+        RowReader(InputStream in, Format format) throws IOException {
+            this.lines = new LineReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxLineChars);
+            if (format == Format.CSV) {
+                CsvSchema.Builder schema = CsvSchema.builder();
+                String header = lines.readLine();
+                if (lines.tooLong) {
+                    headerError = new Row(0, null, "Header exceeds " + maxLineChars + " characters");
+                } else if (header != null) {
+                    try {
+                        // Without a schema each CSV row reads as an array, quotes handled
+                        String[] columns = CSV_MAPPER.readerFor(String[].class).readValue(header);
+                        for (String column : columns) {
+                            schema.addColumn(column.trim());
+                        }
+                    } catch (JsonProcessingException e) {
+                        headerError = new Row(0, null, "Malformed header: " + e.getOriginalMessage());
+                    }
+                }
+                // An empty cell means "not given", as a missing NDJSON field does, not ""
+                this.reader = CSV_MAPPER.readerFor(ImportUserRecord.class)
+                        .with(schema.build())
+                        .with(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+            } else {
+                this.reader = objectMapper.readerFor(ImportUserRecord.class);
+            }
+        }
+
+        Row next() throws IOException {
+            if (headerError != null) {
+                // Without usable columns no row can be read; report the header and stop
+                Row row = headerError;
+                headerError = null;
+                done = true;
+                return row;
+            }
+            if (done) {
+                return null;
+            }
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (!lines.tooLong && line.isBlank()) {
+                    continue;
+                }
+                number++;
+                if (lines.tooLong) {
+                    return new Row(number, null, "Line exceeds " + maxLineChars + " characters");
+                }
+                try {
+                    return new Row(number, reader.readValue(line), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(number, null, "Malformed line: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    // Like BufferedReader.readLine, but keeps at most maxChars of a line. The rest of a longer
+    // line is still consumed up to its newline and the line is flagged through tooLong. A leading
+    // byte order mark is dropped.
+    private static final class LineReader {
+        private final Reader in;
+        private final int maxChars;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int pos;
+        private int limit;
+        private boolean first = true;
+        boolean tooLong;
+
+        LineReader(Reader in, int maxChars) {
+            this.in = in;
+            this.maxChars = maxChars;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (pos == limit) {
+                    limit = Math.max(0, in.read(buffer, 0, buffer.length));
+                    pos = 0;
+                    if (limit == 0) {
+                        return read ? finish() : null;
+                    }
+                }
+                read = true;
+                int start = pos;
+                while (pos < limit && buffer[pos] != '\n') {
+                    pos++;
+                }
+                append(start, pos);
+                if (pos < limit) {
+                    pos++; // skip the newline
+                    return finish();
+                }
+            }
+        }
+
+        private void append(int start, int end) {
+            int room = maxChars - line.length();
+            if (end - start > room) {
+                line.append(buffer, start, room);
+                tooLong = true;
+            } else {
+                line.append(buffer, start, end - start);
+            }
+        }
+
+        private String finish() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            if (first) {
+                first = false;
+                if (line.length() > 0 && line.charAt(0) == '\uFEFF') {
+                    line.deleteCharAt(0);
+                }
+            }
+            return line.toString();
+        }
+    }
+}
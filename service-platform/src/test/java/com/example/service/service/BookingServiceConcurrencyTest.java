@@ -0,0 +1,175 @@
+package com.example.service.service;
+
+import com.example.service.dto.BookingRequest;
+import com.example.service.model.Booking;
+import com.example.service.model.ProviderDaySlots;
+import com.example.service.repository.BookingRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Runs BookingService against a real MongoDB, since the guarantee under test is MongoDB's
+// per-document atomicity. Skipped when Docker is not available.
+@Testcontainers(disabledWithoutDocker = true)
+class BookingServiceConcurrencyTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 15);
+    private static final String SLOT = "10:00";
+    private static final int THREADS = 32;
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    private BookingService bookingService;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(client, "booking_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(Booking.class);
+        mongoTemplate.dropCollection(ProviderDaySlots.class);
+        bookingService = newService(1);
+    }
+
+    private static BookingService newService(int slotCapacity) {
+        BookingService service = new BookingService();
+        ReflectionTestUtils.setField(service, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(service, "bookingRepo",
+                new MongoRepositoryFactory(mongoTemplate).getRepository(BookingRepository.class));
+        ReflectionTestUtils.setField(service, "slotCapacity", slotCapacity);
+        return service;
+    }
+
+    private static BookingRequest request(String providerId) {
+        return new BookingRequest(providerId, "Provider " + providerId, "CLEANING", new BigDecimal("500"),
+                "INR", DAY, SLOT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void sameSlotIsNeverOverbooked(int slotCapacity) throws Exception {
+        bookingService = newService(slotCapacity);
+
+        List<Booking> results = runConcurrently(THREADS, i -> bookingService.book("customer-" + i, request("p1")));
+
+        long successes = results.stream().filter(b -> b != null).count();
+        assertEquals(slotCapacity, successes);
+        assertEquals(slotCapacity, mongoTemplate.count(
+                Query.query(Criteria.where("providerId").is("p1")), Booking.class));
+
+        ProviderDaySlots slots = mongoTemplate.findById(ProviderDaySlots.idFor("p1", DAY.toString()),
+                ProviderDaySlots.class);
+        assertNotNull(slots);
+        assertEquals(slotCapacity, slots.getBooked().get(SLOT));
+    }
+
+    @Test
+    void cancelFreesTheSlotExactlyOnce() throws Exception {
+        Booking booking = bookingService.book("customer-0", request("p1"));
+        assertNotNull(booking);
+
+        List<Booking> cancels = runConcurrently(THREADS, i -> bookingService.cancel("customer-0", booking.getId()));
+        assertEquals(1, cancels.stream().filter(b -> b != null).count());
+
+        ProviderDaySlots slots = mongoTemplate.findById(ProviderDaySlots.idFor("p1", DAY.toString()),
+                ProviderDaySlots.class);
+        assertEquals(0, slots.getBooked().get(SLOT));
+        assertNotNull(bookingService.book("customer-1", request("p1")));
+    }
+
+    // Distinct providers touch distinct documents, so throughput should grow with the thread
+    // count until the database saturates. The numbers are printed rather than asserted, as they
+    // depend on the machine; correctness is asserted.
+    @Test
+    void distinctProvidersScaleWithThreads() throws Exception {
+        int perThread = 100;
+        double singleThread = 0;
+        for (int threads : new int[] {1, 2, 4, 8, 16}) {
+            String run = "t" + threads + "-";
+            long start = System.nanoTime();
+            List<List<Booking>> results = runConcurrently(threads, t -> {
+                List<Booking> booked = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    booked.add(bookingService.book("customer", request(run + t + "-" + i)));
+                }
+                return booked;
+            });
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long successes = results.stream().flatMap(List::stream).filter(b -> b != null).count();
+            assertEquals((long) threads * perThread, successes);
+
+            double opsPerSecond = successes / seconds;
+            singleThread = threads == 1 ? opsPerSecond : singleThread;
+            System.out.printf("threads=%d bookings/s=%.0f speedup=%.2f%n", threads, opsPerSecond,
+                    opsPerSecond / singleThread);
+        }
+    }
+
+    private interface Task<T> {
+        T run(int index) throws Exception;
+    }
+
+    // Starts all tasks at once behind a latch so they really race
+    private static <T> List<T> runConcurrently(int threads, Task<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                Callable<T> call = () -> {
+                    start.await();
+                    return task.run(index);
+                };
+                futures.add(pool.submit(call));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>(threads);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}